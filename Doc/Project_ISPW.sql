@@ -82,7 +82,7 @@ CREATE TABLE `list_anime` (
   `idAniList` int NOT NULL,
   PRIMARY KEY (`idList`,`idAniList`),
   KEY `idAniList` (`idAniList`),
-  CONSTRAINT `list_anime_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`),
+  CONSTRAINT `list_anime_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`) ON DELETE CASCADE,
   CONSTRAINT `list_anime_ibfk_2` FOREIGN KEY (`idAniList`) REFERENCES `anime` (`idAniList`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -109,7 +109,7 @@ CREATE TABLE `list_movie` (
   `idMovieTmdb` int NOT NULL,
   PRIMARY KEY (`idList`,`idMovieTmdb`),
   KEY `idMovieTmdb` (`idMovieTmdb`),
-  CONSTRAINT `list_movie_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`),
+  CONSTRAINT `list_movie_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`) ON DELETE CASCADE,
   CONSTRAINT `list_movie_ibfk_2` FOREIGN KEY (`idMovieTmdb`) REFERENCES `movie` (`idMovieTmdb`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -136,7 +136,7 @@ CREATE TABLE `list_tvseries` (
   `idTvSeriesTmdb` int NOT NULL,
   PRIMARY KEY (`idList`,`idTvSeriesTmdb`),
   KEY `idTvSeriesTmdb` (`idTvSeriesTmdb`),
-  CONSTRAINT `list_tvseries_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`),
+  CONSTRAINT `list_tvseries_ibfk_1` FOREIGN KEY (`idList`) REFERENCES `list` (`idList`) ON DELETE CASCADE,
   CONSTRAINT `list_tvseries_ibfk_2` FOREIGN KEY (`idTvSeriesTmdb`) REFERENCES `tvseries` (`idTvSeriesTmdb`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -1,5 +1,6 @@
 package ispw.project.project_ispw;
 
+import ispw.project.project_ispw.connection.SingletonDatabase;
 import ispw.project.project_ispw.controller.application.state.DemoModeState;
 import ispw.project.project_ispw.controller.application.state.FullModeState;
 import ispw.project.project_ispw.controller.application.state.PersistenceModeState;
@@ -66,4 +67,12 @@ public class MainApp extends Application {
             System.exit(1);
         }
     }
+
+    @Override
+    public void stop() {
+        // Only the JDBC persistence mode opens the pool; touching the singleton in any other mode would create it.
+        if (!RUN_IN_DEMO_MODE && DESIRED_DAO_TYPE == DaoType.JDBC) {
+            SingletonDatabase.getInstance().closeConnection();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package ispw.project.project_ispw.bean;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ListContents {
+
+    private final List<MovieBean> movies;
+    private final List<TvSeriesBean> tvSeries;
+    private final List<AnimeBean> anime;
+
+    public ListContents(List<MovieBean> movies, List<TvSeriesBean> tvSeries, List<AnimeBean> anime) {
+        this.movies = Collections.unmodifiableList(movies);
+        this.tvSeries = Collections.unmodifiableList(tvSeries);
+        this.anime = Collections.unmodifiableList(anime);
+    }
+
+    public List<MovieBean> getMovies() {
+        return movies;
+    }
+
+    public List<TvSeriesBean> getTvSeries() {
+        return tvSeries;
+    }
+
+    public List<AnimeBean> getAnime() {
+        return anime;
+    }
+
+    public int size() {
+        return movies.size() + tvSeries.size() + anime.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ListContents{" +
+                "movies=" + movies.size() +
+                ", tvSeries=" + tvSeries.size() +
+                ", anime=" + anime.size() +
+                '}';
+    }
+}
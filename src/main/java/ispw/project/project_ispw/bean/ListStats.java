@@ -0,0 +1,61 @@
+package ispw.project.project_ispw.bean;
+
+public class ListStats {
+
+    private final int movieCount;
+    private final long movieMinutes;
+    private final int tvSeriesCount;
+    private final long tvSeriesMinutes;
+    private final int animeCount;
+    private final long animeMinutes;
+
+    public ListStats(int movieCount, long movieMinutes, int tvSeriesCount, long tvSeriesMinutes, int animeCount, long animeMinutes) {
+        this.movieCount = movieCount;
+        this.movieMinutes = movieMinutes;
+        this.tvSeriesCount = tvSeriesCount;
+        this.tvSeriesMinutes = tvSeriesMinutes;
+        this.animeCount = animeCount;
+        this.animeMinutes = animeMinutes;
+    }
+
+    public int getMovieCount() {
+        return movieCount;
+    }
+
+    public long getMovieMinutes() {
+        return movieMinutes;
+    }
+
+    public int getTvSeriesCount() {
+        return tvSeriesCount;
+    }
+
+    public long getTvSeriesMinutes() {
+        return tvSeriesMinutes;
+    }
+
+    public int getAnimeCount() {
+        return animeCount;
+    }
+
+    public long getAnimeMinutes() {
+        return animeMinutes;
+    }
+
+    public int getItemCount() {
+        return movieCount + tvSeriesCount + animeCount;
+    }
+
+    public long getTotalMinutes() {
+        return movieMinutes + tvSeriesMinutes + animeMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return "ListStats{" +
+                "movies=" + movieCount + " (" + movieMinutes + " min)" +
+                ", tvSeries=" + tvSeriesCount + " (" + tvSeriesMinutes + " min)" +
+                ", anime=" + animeCount + " (" + animeMinutes + " min)" +
+                '}';
+    }
+}
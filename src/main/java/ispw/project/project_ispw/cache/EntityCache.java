@@ -0,0 +1,150 @@
+package ispw.project.project_ispw.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache for DAO entities. Reads never lock; each hit only bumps a small saturating
+ * frequency counter. When the cache grows past its maximum size, a clock hand walks the entries in
+ * insertion order, giving frequently read entries another pass (and aging their counter) and evicting
+ * the first entry whose counter has dropped to zero.
+ */
+public class EntityCache<K, V> {
+
+    private static final int MAX_FREQUENCY = 3;
+
+    private final int maximumSize;
+    private final Map<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockLength = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public EntityCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be positive.");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        node.touch();
+        return node.value;
+    }
+
+    public boolean containsKey(K key) {
+        return nodes.containsKey(key);
+    }
+
+    public void put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        nodes.put(key, node);
+        clock.offer(node);
+        clockLength.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    public V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        return node == null ? null : node.value;
+    }
+
+    public void clear() {
+        nodes.clear();
+        clock.clear();
+        clockLength.set(0);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache{" +
+                "size=" + size() +
+                ", maximumSize=" + maximumSize +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private void evictIfNeeded() {
+        while (nodes.size() > maximumSize) {
+            Node<K, V> candidate = clock.poll();
+            if (candidate == null) {
+                return;
+            }
+            clockLength.decrementAndGet();
+            if (nodes.get(candidate.key) != candidate) {
+                continue;
+            }
+            if (candidate.age()) {
+                clock.offer(candidate);
+                clockLength.incrementAndGet();
+            } else if (nodes.remove(candidate.key, candidate)) {
+                evictions.increment();
+            }
+        }
+        if (clockLength.get() > 2 * maximumSize) {
+            clock.removeIf(node -> nodes.get(node.key) != node);
+            clockLength.set(clock.size());
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final AtomicInteger frequency = new AtomicInteger();
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        private void touch() {
+            if (frequency.get() < MAX_FREQUENCY) {
+                frequency.incrementAndGet();
+            }
+        }
+
+        private boolean age() {
+            return frequency.getAndUpdate(current -> current > 0 ? current - 1 : 0) > 0;
+        }
+    }
+}
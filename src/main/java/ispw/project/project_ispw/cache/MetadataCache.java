@@ -0,0 +1,170 @@
+package ispw.project.project_ispw.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded cache of remote detail lookups keyed by id. Successful responses live for {@code ttlMillis}; a
+ * "not found" answer is remembered for {@code negativeTtlMillis} and rethrown without calling the API again.
+ * Other failures are never cached. The size bound and eviction come from {@link EntityCache}.
+ */
+public class MetadataCache<V, E extends Exception> {
+
+    private static final Logger LOGGER = Logger.getLogger(MetadataCache.class.getName());
+
+    // Number of lookups between two FINE stats lines.
+    private static final long STATS_LOG_INTERVAL = 100;
+
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load(int id) throws E;
+    }
+
+    private final String name;
+    private final EntityCache<Integer, Entry<V, E>> entries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Class<E> failureType;
+    private final Predicate<E> isNotFound;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final AtomicLong lookups = new AtomicLong();
+
+    public MetadataCache(String name, int maximumSize, long ttlMillis, long negativeTtlMillis,
+                         Class<E> failureType, Predicate<E> isNotFound) {
+        this(name, maximumSize, ttlMillis, negativeTtlMillis, failureType, isNotFound, System::nanoTime);
+    }
+
+    MetadataCache(String name, int maximumSize, long ttlMillis, long negativeTtlMillis,
+                  Class<E> failureType, Predicate<E> isNotFound, LongSupplier nanoClock) {
+        this.name = name;
+        this.entries = new EntityCache<>(maximumSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+        this.failureType = failureType;
+        this.isNotFound = isNotFound;
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(int id, Loader<V, E> loader) throws E {
+        Entry<V, E> entry = freshEntry(id);
+        if (entry != null) {
+            if (entry.notFound != null) {
+                throw entry.notFound;
+            }
+            return entry.value;
+        }
+
+        V value;
+        try {
+            value = loader.load(id);
+        } catch (Exception e) {
+            if (failureType.isInstance(e)) {
+                rememberIfNotFound(id, failureType.cast(e));
+            }
+            throw e;
+        }
+        remember(id, value);
+        return value;
+    }
+
+    // Returns the unexpired entry for id, counting the lookup as a hit, negative hit or miss.
+    private Entry<V, E> freshEntry(int id) {
+        if (lookups.incrementAndGet() % STATS_LOG_INTERVAL == 0) {
+            LOGGER.log(Level.FINE, "Metadata cache stats: {0}", this);
+        }
+        Entry<V, E> entry = entries.get(id);
+        if (entry != null) {
+            if (nanoClock.getAsLong() - entry.expiresAtNanos < 0) {
+                if (entry.notFound != null) {
+                    negativeHits.increment();
+                } else {
+                    hits.increment();
+                }
+                return entry;
+            }
+            expirations.increment();
+            entries.remove(id);
+        }
+        misses.increment();
+        return null;
+    }
+
+    private void remember(int id, V value) {
+        if (value != null && ttlNanos > 0) {
+            entries.put(id, new Entry<>(value, null, nanoClock.getAsLong() + ttlNanos));
+        }
+    }
+
+    public void invalidate(int id) {
+        entries.remove(id);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    public double getHitRate() {
+        long served = hits.sum() + negativeHits.sum();
+        long requests = served + misses.sum();
+        return requests == 0 ? 0.0 : (double) served / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MetadataCache{name=%s, size=%d, hits=%d, negativeHits=%d, misses=%d, expirations=%d, evictions=%d, hitRate=%.2f}",
+                name, size(), getHitCount(), getNegativeHitCount(), getMissCount(), getExpirationCount(),
+                getEvictionCount(), getHitRate());
+    }
+
+    private void rememberIfNotFound(int id, E failure) {
+        if (negativeTtlNanos > 0 && isNotFound.test(failure)) {
+            entries.put(id, new Entry<>(null, failure, nanoClock.getAsLong() + negativeTtlNanos));
+        }
+    }
+
+    private static final class Entry<V, E extends Exception> {
+        private final V value;
+        private final E notFound;
+        private final long expiresAtNanos;
+
+        private Entry(V value, E notFound, long expiresAtNanos) {
+            this.value = value;
+            this.notFound = notFound;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
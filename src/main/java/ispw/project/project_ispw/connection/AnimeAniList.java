@@ -16,7 +16,9 @@ import ispw.project.project_ispw.model.AnimeModel;
 import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class AnimeAniList {
 
@@ -24,17 +26,98 @@ public class AnimeAniList {
     private static final Gson gson = new Gson();
 
     private static final String JSON_KEY_ERRORS = "errors";
+    private static final long ASYNC_TIMEOUT_SECONDS = 45;
+
+    private static final String ANIME_BY_ID_QUERY = """
+            query ($id: Int) {
+              Media(id: $id, type: ANIME) {
+                id
+                title {
+                  romaji
+                  english
+                  native
+                }
+                description
+                coverImage {
+                  medium
+                }
+                episodes
+                duration
+                genres
+                countryOfOrigin
+                startDate {
+                  year
+                  month
+                  day
+                }
+                endDate {
+                  year
+                  month
+                  day
+                }
+                averageScore
+                meanScore
+                status
+                nextAiringEpisode {
+                  episode
+                  airingAt
+                }
+              }
+            }
+            """;
+
+    private static final String SEARCH_ANIME_QUERY = """
+            query ($search: String) {
+              Page(perPage: 10) {
+                media(search: $search, type: ANIME) {
+                  id
+                  title {
+                    romaji
+                    english
+                    native
+                  }
+                  coverImage {
+                    medium
+                  }
+                  description
+                  episodes
+                  duration
+                  genres
+                  countryOfOrigin
+                  startDate {
+                    year
+                    month
+                    day
+                  }
+                  endDate {
+                    year
+                    month
+                    day
+                  }
+                  averageScore
+                  meanScore
+                  status
+                  nextAiringEpisode {
+                    episode
+                    airingAt
+                  }
+                }
+              }
+            }
+            """;
 
     private static final OkHttpClient client = new OkHttpClient.Builder()
             .connectTimeout(10, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
             .build();
 
+    private static final SingleFlight<ExceptionAniListApi> IN_FLIGHT = new SingleFlight<>(ExceptionAniListApi.class);
+
     private AnimeAniList() {
         // This constructor is intentionally empty to prevent instantiation.
     }
 
-    private static String executeGraphQLRequest(String query, JsonObject variables) throws ExceptionAniListApi {
+    private static Request buildGraphQLRequest(String query, JsonObject variables) {
         JsonObject jsonRequest = new JsonObject();
         jsonRequest.addProperty("query", query);
         if (variables != null) {
@@ -44,27 +127,34 @@ public class AnimeAniList {
         MediaType jsonMediaType = MediaType.get("application/json; charset=utf-8");
         RequestBody body = RequestBody.create(gson.toJson(jsonRequest), jsonMediaType);
 
-        Request request = new Request.Builder()
+        return new Request.Builder()
                 .url(ANILIST_API_URL)
                 .post(body)
                 .build();
+    }
 
-        try (Response response = client.newCall(request).execute()) {
-            String responseBody = response.body().string();
+    private static String readGraphQLResponse(Response response) throws IOException, ExceptionAniListApi {
+        String responseBody = response.body().string();
 
-            JsonObject jsonResponse = parseResponseToJsonObject(responseBody);
+        JsonObject jsonResponse = parseResponseToJsonObject(responseBody);
 
-            if (jsonResponse.has(JSON_KEY_ERRORS) && jsonResponse.getAsJsonArray(JSON_KEY_ERRORS).size() > 0) {
-                JsonArray errors = jsonResponse.getAsJsonArray(JSON_KEY_ERRORS);
-                throw new ExceptionAniListApi("AniList API returned GraphQL errors: " + errors.toString());
-            }
+        if (jsonResponse.has(JSON_KEY_ERRORS) && jsonResponse.getAsJsonArray(JSON_KEY_ERRORS).size() > 0) {
+            JsonArray errors = jsonResponse.getAsJsonArray(JSON_KEY_ERRORS);
+            throw new ExceptionAniListApi("AniList API returned GraphQL errors: " + errors.toString(),
+                    response.code(), errors.toString());
+        }
 
-            if (!response.isSuccessful()) {
-                throw new ExceptionAniListApi("Unexpected HTTP code " + response.code() + ": " + responseBody,
-                        response.code(), responseBody);
-            }
+        if (!response.isSuccessful()) {
+            throw new ExceptionAniListApi("Unexpected HTTP code " + response.code() + ": " + responseBody,
+                    response.code(), responseBody);
+        }
+
+        return responseBody;
+    }
 
-            return responseBody;
+    private static String executeGraphQLRequest(String query, JsonObject variables) throws ExceptionAniListApi {
+        try (Response response = client.newCall(buildGraphQLRequest(query, variables)).execute()) {
+            return readGraphQLResponse(response);
         } catch (IOException e) {
             throw new ExceptionAniListApi("Network or I/O error during GraphQL request: " + e.getMessage(), e);
         } catch (ExceptionAniListApi e) {
@@ -74,50 +164,49 @@ public class AnimeAniList {
         }
     }
 
+    private static <T> CompletableFuture<T> executeGraphQLRequestAsync(String query, JsonObject variables,
+                                                                       OkHttpFutures.ResponseHandler<T> handler) {
+        return OkHttpFutures.enqueue(client.newCall(buildGraphQLRequest(query, variables)), ASYNC_TIMEOUT_SECONDS, handler,
+                AnimeAniList::asyncFailure);
+    }
+
+    private static ExceptionAniListApi asyncFailure(Exception e) {
+        if (e instanceof ExceptionAniListApi aniListE) {
+            return aniListE;
+        }
+        if (e instanceof IOException) {
+            return new ExceptionAniListApi("Network or I/O error during GraphQL request: " + e.getMessage(), e);
+        }
+        if (e instanceof TimeoutException) {
+            return new ExceptionAniListApi("GraphQL request timed out after " + ASYNC_TIMEOUT_SECONDS + " seconds.", e);
+        }
+        return new ExceptionAniListApi("Failed to process GraphQL response: " + e, e);
+    }
+
     public static AnimeModel getAnimeById(int animeId) throws ExceptionAniListApi {
-        String query = """
-                query ($id: Int) {
-                  Media(id: $id, type: ANIME) {
-                    id
-                    title {
-                      romaji
-                      english
-                      native
-                    }
-                    description
-                    coverImage {
-                      medium
-                    }
-                    episodes
-                    duration
-                    genres
-                    countryOfOrigin
-                    startDate {
-                      year
-                      month
-                      day
-                    }
-                    endDate {
-                      year
-                      month
-                      day
-                    }
-                    averageScore
-                    meanScore
-                    status
-                    nextAiringEpisode {
-                      episode
-                      airingAt
-                    }
-                  }
-                }
-                """;
+        return IN_FLIGHT.execute("anime:" + animeId, () -> fetchAnimeById(animeId));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getAnimeById(int)}. Failures complete the future with
+     * {@link ExceptionAniListApi}. Coalesced with concurrent lookups of the same anime, blocking or not.
+     */
+    public static CompletableFuture<AnimeModel> getAnimeByIdAsync(int animeId) {
+        return IN_FLIGHT.executeAsync("anime:" + animeId, () -> executeGraphQLRequestAsync(ANIME_BY_ID_QUERY,
+                idVariables(animeId), response -> parseAnime(animeId, readGraphQLResponse(response))));
+    }
 
+    private static AnimeModel fetchAnimeById(int animeId) throws ExceptionAniListApi {
+        return parseAnime(animeId, executeGraphQLRequest(ANIME_BY_ID_QUERY, idVariables(animeId)));
+    }
+
+    private static JsonObject idVariables(int animeId) {
         JsonObject variables = new JsonObject();
         variables.addProperty("id", animeId);
+        return variables;
+    }
 
-        String jsonResponse = executeGraphQLRequest(query, variables);
-
+    private static AnimeModel parseAnime(int animeId, String jsonResponse) throws ExceptionAniListApi {
         JsonObject rootJson = JsonParser.parseString(jsonResponse).getAsJsonObject();
         JsonObject mediaJson = rootJson.getAsJsonObject("data").getAsJsonObject("Media");
 
@@ -135,51 +224,25 @@ public class AnimeAniList {
     }
 
     public static List<AnimeModel> searchAnime(String searchString) throws ExceptionAniListApi {
-        String query = """
-                query ($search: String) {
-                  Page(perPage: 10) {
-                    media(search: $search, type: ANIME) {
-                      id
-                      title {
-                        romaji
-                        english
-                        native
-                      }
-                      coverImage {
-                        medium
-                      }
-                      description
-                      episodes
-                      duration
-                      genres
-                      countryOfOrigin
-                      startDate {
-                        year
-                        month
-                        day
-                      }
-                      endDate {
-                        year
-                        month
-                        day
-                      }
-                      averageScore
-                      meanScore
-                      status
-                      nextAiringEpisode {
-                        episode
-                        airingAt
-                      }
-                    }
-                  }
-                }
-                """;
+        return IN_FLIGHT.execute("search:" + searchString, () -> fetchSearchAnime(searchString));
+    }
 
+    public static CompletableFuture<List<AnimeModel>> searchAnimeAsync(String searchString) {
+        return IN_FLIGHT.executeAsync("search:" + searchString, () -> executeGraphQLRequestAsync(SEARCH_ANIME_QUERY,
+                searchVariables(searchString), response -> parseSearchResults(readGraphQLResponse(response))));
+    }
+
+    private static List<AnimeModel> fetchSearchAnime(String searchString) throws ExceptionAniListApi {
+        return parseSearchResults(executeGraphQLRequest(SEARCH_ANIME_QUERY, searchVariables(searchString)));
+    }
+
+    private static JsonObject searchVariables(String searchString) {
         JsonObject variables = new JsonObject();
         variables.addProperty("search", searchString);
+        return variables;
+    }
 
-        String jsonResponse = executeGraphQLRequest(query, variables);
-
+    private static List<AnimeModel> parseSearchResults(String jsonResponse) {
         JsonObject rootJson = JsonParser.parseString(jsonResponse).getAsJsonObject();
         JsonObject pageJson = rootJson.getAsJsonObject("data").getAsJsonObject("Page");
         JsonArray mediaArrayJson = pageJson.getAsJsonArray("media");
@@ -0,0 +1,384 @@
+package ispw.project.project_ispw.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of physical JDBC connections. Callers receive a leased wrapper whose {@code close()} hands the
+ * physical connection back to the pool instead of closing it, so the existing DAO code can keep closing
+ * connections in its {@code finally} blocks.
+ * <p>
+ * A connection is only validated when it has sat idle longer than the validation interval, so leasing a
+ * recently used connection costs no round trip. A background keepalive task pings connections that stay idle
+ * and replaces the ones the server has dropped.
+ * <p>
+ * Each physical connection keeps its prepared statements in a {@link StatementCache}, so preparing the same SQL
+ * again on a pooled connection reuses the statement instead of parsing it anew.
+ */
+public class ConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final long connectionTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long validationIntervalNanos;
+    private final int statementCacheSize;
+    private final ScheduledExecutorService keepaliveExecutor;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder discardedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder statementCacheEvictions = new LongAdder();
+
+    public ConnectionPool(ConnectionFactory factory, int maxSize, long connectionTimeoutMillis, int validationTimeoutSeconds,
+                          long validationIntervalMillis, long keepaliveIntervalMillis, int statementCacheSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, validationIntervalMillis));
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(maxSize, true);
+
+        if (keepaliveIntervalMillis > 0) {
+            keepaliveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "db-pool-keepalive");
+                thread.setDaemon(true);
+                return thread;
+            });
+            keepaliveExecutor.scheduleWithFixedDelay(this::keepalive, keepaliveIntervalMillis, keepaliveIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            keepaliveExecutor = null;
+        }
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Connection pool has been shut down.");
+        }
+
+        long waitStart = System.nanoTime();
+        acquirePermit();
+        long waited = System.nanoTime() - waitStart;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooled)) {
+                    return lease(pooled);
+                }
+                discard(pooled);
+            }
+            Connection physical = factory.open();
+            createdCount.increment();
+            return lease(newPooledConnection(physical));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void shutdown() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (keepaliveExecutor != null) {
+            keepaliveExecutor.shutdownNow();
+        }
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            discard(pooled);
+        }
+        LOGGER.log(Level.INFO, "Connection pool shut down: {0}", this);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public long getLeaseCount() {
+        return leaseCount.sum();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    public long getDiscardedCount() {
+        return discardedCount.sum();
+    }
+
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum());
+    }
+
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    public double getAverageWaitMillis() {
+        long leases = leaseCount.sum();
+        return leases == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / leases;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions.sum();
+    }
+
+    public double getStatementCacheHitRatio() {
+        long hits = statementCacheHits.sum();
+        long lookups = hits + statementCacheMisses.sum();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConnectionPool{active=%d, idle=%d, max=%d, leases=%d, created=%d, discarded=%d, avgWaitMs=%.2f, maxWaitMs=%d, "
+                        + "stmtHits=%d, stmtMisses=%d, stmtEvictions=%d, stmtHitRatio=%.2f}",
+                getActiveCount(), getIdleCount(), maxSize, getLeaseCount(), getCreatedCount(), getDiscardedCount(),
+                getAverageWaitMillis(), getMaxWaitMillis(),
+                getStatementCacheHits(), getStatementCacheMisses(), getStatementCacheEvictions(), getStatementCacheHitRatio());
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + connectionTimeoutMillis
+                        + " ms waiting for a database connection (" + getActiveCount() + " of " + maxSize + " in use).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.nanoTime() - pooled.lastUsedNanos < validationIntervalNanos) {
+            return true;
+        }
+        return validate(pooled);
+    }
+
+    private boolean validate(PooledConnection pooled) {
+        try {
+            if (!pooled.physical.isClosed() && pooled.physical.isValid(validationTimeoutSeconds)) {
+                pooled.lastUsedNanos = System.nanoTime();
+                return true;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Connection validation failed: {0}", e.getMessage());
+        }
+        return false;
+    }
+
+    // Package-private so tests can run one pass without waiting for the scheduler.
+    void keepalive() {
+        // Walk a snapshot so every idle connection is visited once, whatever order they are returned in.
+        for (PooledConnection pooled : new ArrayList<>(idleConnections)) {
+            if (closed.get()) {
+                break;
+            }
+            if (System.nanoTime() - pooled.lastUsedNanos < validationIntervalNanos) {
+                continue;
+            }
+            if (!idleConnections.removeFirstOccurrence(pooled)) {
+                // Leased since the snapshot was taken.
+                continue;
+            }
+            if (validate(pooled)) {
+                returnToIdle(pooled);
+                continue;
+            }
+            discard(pooled);
+            replaceDiscarded();
+        }
+        if (closed.get()) {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                discard(pooled);
+            }
+            return;
+        }
+        LOGGER.log(Level.FINE, "Connection pool stats: {0}", this);
+    }
+
+    private void returnToIdle(PooledConnection pooled) {
+        // A lease may have opened a fresh connection while this one was out for validation.
+        if (activeCount.get() + idleConnections.size() >= maxSize) {
+            discard(pooled);
+        } else {
+            idleConnections.offerLast(pooled);
+        }
+    }
+
+    private void replaceDiscarded() {
+        if (activeCount.get() + idleConnections.size() >= maxSize) {
+            return;
+        }
+        try {
+            PooledConnection replacement = newPooledConnection(factory.open());
+            createdCount.increment();
+            returnToIdle(replacement);
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Keepalive could not replace a dead connection: {0}", e.getMessage());
+        }
+    }
+
+    private PooledConnection newPooledConnection(Connection physical) {
+        StatementCache statements = statementCacheSize == 0 ? null
+                : new StatementCache(statementCacheSize, statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        return new PooledConnection(physical, statements);
+    }
+
+    private Connection lease(PooledConnection pooled) {
+        activeCount.incrementAndGet();
+        leaseCount.increment();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new LeasedConnection(pooled));
+    }
+
+    private void release(PooledConnection pooled) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed.get() || pooled.physical.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (pooled.statements != null) {
+                pooled.statements.releaseCheckedOut();
+            }
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.physical.clearWarnings();
+            pooled.lastUsedNanos = System.nanoTime();
+            idleConnections.offerFirst(pooled);
+            if (closed.get() && idleConnections.remove(pooled)) {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Discarding connection that could not be reset: {0}", e.getMessage());
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        discardedCount.increment();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing discarded connection: {0}", e.getMessage());
+        }
+    }
+
+    private static final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statements;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private PooledConnection(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+    }
+
+    private final class LeasedConnection implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private LeasedConnection(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LeasedConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+            if (returned.get()) {
+                throw new SQLException("Connection has already been returned to the pool.");
+            }
+            if (pooled.statements != null && "prepareStatement".equals(method.getName()) && args.length == 1) {
+                return pooled.statements.prepare(pooled.physical, (Connection) proxy, (String) args[0]);
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
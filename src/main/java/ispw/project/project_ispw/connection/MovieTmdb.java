@@ -18,13 +18,17 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 public class MovieTmdb {
 
     private static final String BASE_URL = "https://api.themoviedb.org/3/movie/";
     private static final String SEARCH_MOVIE_URL = "https://api.themoviedb.org/3/search/movie";
     private static final Gson gson = new Gson();
+    private static final long ASYNC_TIMEOUT_SECONDS = 45;
 
     private static final OkHttpClient client = new OkHttpClient.Builder()
             .connectTimeout(10, TimeUnit.SECONDS)
@@ -32,6 +36,8 @@ public class MovieTmdb {
             .writeTimeout(30, TimeUnit.SECONDS)
             .build();
 
+    private static final SingleFlight<ExceptionTmdbApi> IN_FLIGHT = new SingleFlight<>(ExceptionTmdbApi.class);
+
     private static String apiKey;
 
     static {
@@ -55,33 +61,74 @@ public class MovieTmdb {
         // This constructor is intentionally empty to prevent instantiation.
     }
 
-    private static String executeHttpRequest(String url) throws ExceptionTmdbApi {
-        Request request = new Request.Builder()
+    private static Request buildRequest(String url) {
+        return new Request.Builder()
                 .url(url)
                 .get()
                 .build();
+    }
 
-        try (Response response = client.newCall(request).execute()) {
-            String responseBody = response.body().string();
+    private static String readResponseBody(Response response) throws IOException {
+        String responseBody = response.body().string();
 
-            if (!response.isSuccessful()) {
-                throw new ExceptionTmdbApi(
-                        "HTTP error: " + response.code() + ", Body: " + responseBody
-                );
-            }
-            return responseBody;
+        if (!response.isSuccessful()) {
+            throw new ExceptionTmdbApi(
+                    "HTTP error: " + response.code() + ", Body: " + responseBody, response.code()
+            );
+        }
+        return responseBody;
+    }
+
+    private static String executeHttpRequest(String url) throws ExceptionTmdbApi {
+        try (Response response = client.newCall(buildRequest(url)).execute()) {
+            return readResponseBody(response);
         } catch (IOException e) {
             throw new ExceptionTmdbApi("Network error: " + e.getMessage(), e);
         }
     }
 
+    private static <T> CompletableFuture<T> executeHttpRequestAsync(String url, Function<String, T> parser) {
+        return OkHttpFutures.enqueue(client.newCall(buildRequest(url)), ASYNC_TIMEOUT_SECONDS,
+                response -> parser.apply(readResponseBody(response)), MovieTmdb::asyncFailure);
+    }
+
+    private static ExceptionTmdbApi asyncFailure(Exception e) {
+        if (e instanceof ExceptionTmdbApi tmdbE) {
+            return tmdbE;
+        }
+        if (e instanceof IOException) {
+            return new ExceptionTmdbApi("Network error: " + e.getMessage(), e);
+        }
+        if (e instanceof TimeoutException) {
+            return new ExceptionTmdbApi("Request timed out after " + ASYNC_TIMEOUT_SECONDS + " seconds.", e);
+        }
+        return new ExceptionTmdbApi("Failed to process TMDb response: " + e, e);
+    }
+
     public static MovieModel getMovieById(int movieId) throws ExceptionTmdbApi {
+        return IN_FLIGHT.execute("movie:" + movieId, () -> fetchMovieById(movieId));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getMovieById(int)}. Failures complete the future with
+     * {@link ExceptionTmdbApi}. Coalesced with concurrent lookups of the same movie, blocking or not.
+     */
+    public static CompletableFuture<MovieModel> getMovieByIdAsync(int movieId) {
+        return IN_FLIGHT.executeAsync("movie:" + movieId,
+                () -> executeHttpRequestAsync(movieUrl(movieId), json -> parseMovie(movieId, json)));
+    }
+
+    private static MovieModel fetchMovieById(int movieId) throws ExceptionTmdbApi {
+        return parseMovie(movieId, executeHttpRequest(movieUrl(movieId)));
+    }
+
+    private static String movieUrl(int movieId) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(BASE_URL + movieId).newBuilder();
         urlBuilder.addQueryParameter("api_key", apiKey);
-        String url = urlBuilder.build().toString();
-
-        String jsonResponse = executeHttpRequest(url);
+        return urlBuilder.build().toString();
+    }
 
+    private static MovieModel parseMovie(int movieId, String jsonResponse) {
         try {
             return gson.fromJson(jsonResponse, MovieModel.class);
         } catch (JsonSyntaxException e) {
@@ -94,14 +141,27 @@ public class MovieTmdb {
     }
 
     public static List<MovieModel> searchMovies(String query, int page) throws ExceptionTmdbApi {
+        return IN_FLIGHT.execute("search:" + page + ":" + query, () -> fetchSearchMovies(query, page));
+    }
+
+    public static CompletableFuture<List<MovieModel>> searchMoviesAsync(String query, int page) {
+        return IN_FLIGHT.executeAsync("search:" + page + ":" + query,
+                () -> executeHttpRequestAsync(searchUrl(query, page), json -> parseSearchResults(query, json)));
+    }
+
+    private static List<MovieModel> fetchSearchMovies(String query, int page) throws ExceptionTmdbApi {
+        return parseSearchResults(query, executeHttpRequest(searchUrl(query, page)));
+    }
+
+    private static String searchUrl(String query, int page) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(SEARCH_MOVIE_URL).newBuilder();
         urlBuilder.addQueryParameter("api_key", apiKey);
         urlBuilder.addQueryParameter("query", query);
         urlBuilder.addQueryParameter("page", String.valueOf(page));
-        String url = urlBuilder.build().toString();
-
-        String jsonResponse = executeHttpRequest(url);
+        return urlBuilder.build().toString();
+    }
 
+    private static List<MovieModel> parseSearchResults(String query, String jsonResponse) {
         try {
             JsonObject rootJson = gson.fromJson(jsonResponse, JsonObject.class);
             JsonArray resultsArray = rootJson.getAsJsonArray("results");
@@ -0,0 +1,65 @@
+package ispw.project.project_ispw.connection;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bridges OkHttp's {@code enqueue} to {@link CompletableFuture}. The request runs on OkHttp's dispatcher, so no
+ * caller thread is held while it is in flight. Cancelling the returned future, or letting it time out, cancels
+ * the underlying call. Every failure, whether a network error, an exception thrown by the handler or the timeout,
+ * is passed through {@code failure} before it completes the future, so callers only ever see their client exception.
+ */
+final class OkHttpFutures {
+
+    @FunctionalInterface
+    interface ResponseHandler<T> {
+        T handle(Response response) throws Exception;
+    }
+
+    private OkHttpFutures() {
+        // This constructor is intentionally empty to prevent instantiation.
+    }
+
+    static <T> CompletableFuture<T> enqueue(Call call, long timeoutSeconds, ResponseHandler<T> handler,
+                                            Function<Exception, ? extends Exception> failure) {
+        CompletableFuture<T> response = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                response.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response httpResponse) {
+                try (httpResponse) {
+                    response.complete(handler.handle(httpResponse));
+                } catch (Exception e) {
+                    response.completeExceptionally(e);
+                }
+            }
+        });
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        response.orTimeout(timeoutSeconds, TimeUnit.SECONDS).whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            result.completeExceptionally(cause instanceof Exception exception ? failure.apply(exception) : cause);
+        });
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                call.cancel();
+            }
+        });
+        return result;
+    }
+}
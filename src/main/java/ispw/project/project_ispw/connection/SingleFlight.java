@@ -0,0 +1,186 @@
+package ispw.project.project_ispw.connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Table of upstream calls in flight, keyed by endpoint and id or query. The first caller for a key runs the call;
+ * callers arriving while it runs wait for it and get the same parsed result, or the same failure. Nothing is kept
+ * once the call completes, so this only coalesces concurrent lookups and is not a cache.
+ */
+final class SingleFlight<E extends Exception> {
+
+    @FunctionalInterface
+    interface Call<V, E extends Exception> {
+        V call() throws E;
+    }
+
+    /**
+     * One call in flight. Every caller waiting on it is counted; when the last asynchronous caller gives up, the
+     * flight is abandoned and its upstream future is cancelled, which for an OkHttp request cancels the call.
+     * Blocking callers never give up, and a blocking leader's call cannot be cancelled.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private int dependents = 1;
+        private boolean abandoned;
+        private CompletableFuture<?> upstream;
+
+        synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            dependents++;
+            return true;
+        }
+
+        synchronized void setUpstream(CompletableFuture<?> upstream) {
+            this.upstream = upstream;
+        }
+
+        /**
+         * Drops one dependent; returns the upstream future to cancel when it was the last one.
+         */
+        synchronized CompletableFuture<?> leave() {
+            dependents--;
+            if (dependents > 0 || result.isDone()) {
+                return null;
+            }
+            abandoned = true;
+            return upstream;
+        }
+    }
+
+    private final Class<E> failureType;
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    SingleFlight(Class<E> failureType) {
+        this.failureType = failureType;
+    }
+
+    // Callers must use a distinct key prefix per result type, otherwise the cast below is unsafe.
+    @SuppressWarnings("unchecked")
+    <V> V execute(String key, Call<V, E> call) throws E {
+        Flight created = new Flight();
+        Flight running;
+        while ((running = inFlight.putIfAbsent(key, created)) != null) {
+            if (running.join()) {
+                shared.increment();
+                return (V) await(running.result);
+            }
+            // Abandoned by its last caller and about to be removed; start a new call instead.
+            inFlight.remove(key, running);
+        }
+
+        calls.increment();
+        try {
+            V value = call.call();
+            created.result.complete(value);
+            return value;
+        } catch (Throwable t) {
+            created.result.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #execute}, sharing the same table, so synchronous and asynchronous callers
+     * of one key are coalesced with each other. Each caller gets its own future: cancelling it, or letting it time
+     * out, detaches that caller, and once every caller has detached the upstream future is cancelled too.
+     */
+    @SuppressWarnings("unchecked")
+    <V> CompletableFuture<V> executeAsync(String key, Supplier<CompletableFuture<V>> call) {
+        Flight created = new Flight();
+        Flight running;
+        while ((running = inFlight.putIfAbsent(key, created)) != null) {
+            if (running.join()) {
+                shared.increment();
+                return dependentOf(running);
+            }
+            inFlight.remove(key, running);
+        }
+
+        calls.increment();
+        CompletableFuture<V> upstream;
+        try {
+            upstream = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        created.setUpstream(upstream);
+        upstream.whenComplete((value, failure) -> {
+            inFlight.remove(key, created);
+            if (failure == null) {
+                created.result.complete(value);
+            } else {
+                created.result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure);
+            }
+        });
+        return dependentOf(created);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> CompletableFuture<V> dependentOf(Flight flight) {
+        CompletableFuture<V> dependent = new CompletableFuture<>();
+        flight.result.whenComplete((value, failure) -> {
+            if (failure == null) {
+                dependent.complete((V) value);
+            } else {
+                dependent.completeExceptionally(failure);
+            }
+        });
+        dependent.whenComplete((value, failure) -> {
+            if (flight.result.isDone()) {
+                return;
+            }
+            // Completed by its caller (cancelled, timed out) before the shared call finished.
+            CompletableFuture<?> upstream = flight.leave();
+            if (upstream != null) {
+                upstream.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    // Package-private so tests can check how many callers were coalesced.
+    long getCallCount() {
+        return calls.sum();
+    }
+
+    long getSharedCount() {
+        return shared.sum();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(CompletableFuture<Object> running) throws E {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            if (failureType.isInstance(cause)) {
+                throw failureType.cast(cause);
+            }
+            throw new IllegalStateException("Shared upstream call failed: " + cause, cause);
+        }
+    }
+}
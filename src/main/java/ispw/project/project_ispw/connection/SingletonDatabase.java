@@ -9,13 +9,21 @@ import java.util.Properties;
 
 public class SingletonDatabase {
 
-    private Connection connection;
+    private static final int DEFAULT_POOL_MAX_SIZE = 10;
+    private static final long DEFAULT_POOL_CONNECTION_TIMEOUT_MS = 30_000L;
+    private static final int DEFAULT_POOL_VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_POOL_VALIDATION_INTERVAL_MS = 30_000L;
+    private static final long DEFAULT_POOL_KEEPALIVE_INTERVAL_MS = 120_000L;
+    private static final int DEFAULT_POOL_STATEMENT_CACHE_SIZE = 50;
+
+    private ConnectionPool pool;
+    private boolean schemaCascadingDeletes;
 
     private SingletonDatabase() {
-        initializeConnection();
+        initializePool();
     }
 
-    private void initializeConnection() {
+    private void initializePool() {
         Properties properties = new Properties();
         try (InputStream input = getClass().getClassLoader().getResourceAsStream("database.properties")) {
             if (input == null) {
@@ -23,7 +31,7 @@ public class SingletonDatabase {
             }
             properties.load(input);
 
-            String url = properties.getProperty("CONNECTION_URL");
+            String url = withConnectorOptions(properties.getProperty("CONNECTION_URL"));
             String user = properties.getProperty("USER");
             String password = properties.getProperty("PASSWORD");
 
@@ -33,17 +41,46 @@ public class SingletonDatabase {
 
             Class.forName("com.mysql.cj.jdbc.Driver");
 
-            connection = DriverManager.getConnection(url, user, password);
+            schemaCascadingDeletes = Boolean.parseBoolean(properties.getProperty("SCHEMA_CASCADE_DELETES", "false").trim());
+
+            int maxSize = Integer.parseInt(properties.getProperty("POOL_MAX_SIZE", String.valueOf(DEFAULT_POOL_MAX_SIZE)).trim());
+            long connectionTimeoutMs = Long.parseLong(properties.getProperty("POOL_CONNECTION_TIMEOUT_MS", String.valueOf(DEFAULT_POOL_CONNECTION_TIMEOUT_MS)).trim());
+            int validationTimeoutSeconds = Integer.parseInt(properties.getProperty("POOL_VALIDATION_TIMEOUT_SECONDS", String.valueOf(DEFAULT_POOL_VALIDATION_TIMEOUT_SECONDS)).trim());
+            long validationIntervalMs = Long.parseLong(properties.getProperty("POOL_VALIDATION_INTERVAL_MS", String.valueOf(DEFAULT_POOL_VALIDATION_INTERVAL_MS)).trim());
+            long keepaliveIntervalMs = Long.parseLong(properties.getProperty("POOL_KEEPALIVE_INTERVAL_MS", String.valueOf(DEFAULT_POOL_KEEPALIVE_INTERVAL_MS)).trim());
+            int statementCacheSize = Integer.parseInt(properties.getProperty("POOL_STATEMENT_CACHE_SIZE", String.valueOf(DEFAULT_POOL_STATEMENT_CACHE_SIZE)).trim());
+
+            pool = new ConnectionPool(() -> DriverManager.getConnection(url, user, password),
+                    maxSize, connectionTimeoutMs, validationTimeoutSeconds, validationIntervalMs, keepaliveIntervalMs, statementCacheSize);
 
         } catch (ClassNotFoundException e) {
             throw new ExceptionDatabase("MySQL JDBC Driver not found! Please ensure it's in your classpath.", e);
-        } catch (SQLException e) {
-            throw new ExceptionDatabase("Failed to establish database connection. Check database server status, credentials, and URL.", e);
+        } catch (NumberFormatException e) {
+            throw new ExceptionDatabase("Invalid connection pool setting in database.properties.", e);
+        } catch (ExceptionDatabase e) {
+            throw e;
         } catch (Exception e) {
             throw new ExceptionDatabase("An unexpected error occurred during database connection setup.", e);
         }
     }
 
+    /**
+     * Lets Connector/J send a JDBC batch as one multi-row INSERT instead of one round trip per row, and prepare
+     * statements on the server so a statement kept in the pool's statement cache is parsed only once.
+     * Options already present in the URL win.
+     */
+    private static String withConnectorOptions(String url) {
+        String configured = withOption(url, "rewriteBatchedStatements", "true");
+        return withOption(configured, "useServerPrepStmts", "true");
+    }
+
+    private static String withOption(String url, String name, String value) {
+        if (url == null || url.contains(name + "=")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + name + "=" + value;
+    }
+
     private static class SingletonHolder {
         private static final SingletonDatabase INSTANCE = new SingletonDatabase();
     }
@@ -52,28 +89,30 @@ public class SingletonDatabase {
         return SingletonHolder.INSTANCE;
     }
 
+    /**
+     * Leases a pooled connection. Closing it returns it to the pool rather than ending the session.
+     */
     public Connection getConnection() throws ExceptionDatabase {
         try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                closeConnection();
-                initializeConnection();
-            }
+            return pool.getConnection();
         } catch (SQLException e) {
-            throw new ExceptionDatabase("Error checking database connection validity or re-establishing it.", e);
+            throw new ExceptionDatabase("Failed to obtain a database connection. Check database server status, credentials, and URL.", e);
         }
-        return connection;
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * True when the list_* join tables declare ON DELETE CASCADE (see Doc/Project_ISPW.sql), so deleting a
+     * list row also removes its items.
+     */
+    public boolean isSchemaCascadingDeletes() {
+        return schemaCascadingDeletes;
     }
 
     public void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-
-            } catch (SQLException e) {
-                throw new ExceptionDatabase("Failed to close database connection gracefully.", e);
-            } finally {
-                connection = null;
-            }
-        }
+        pool.shutdown();
     }
-}
\ No newline at end of file
+}
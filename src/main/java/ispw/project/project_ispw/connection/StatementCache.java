@@ -0,0 +1,183 @@
+package ispw.project.project_ispw.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Prepared statements of one physical connection, keyed by SQL string and evicted in LRU order. Callers get a
+ * wrapper whose {@code close()} clears the parameters and hands the statement back for the next caller with the
+ * same SQL, so the Crud classes can keep preparing and closing statements on every call.
+ */
+final class StatementCache {
+
+    private static final Logger LOGGER = Logger.getLogger(StatementCache.class.getName());
+
+    private final int maxSize;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(int maxSize, LongAdder hits, LongAdder misses, LongAdder evictions) {
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    synchronized PreparedStatement prepare(Connection physical, Connection leased, String sql) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && !cached.checkedOut) {
+            hits.increment();
+            return checkOut(cached, leased);
+        }
+
+        misses.increment();
+        PreparedStatement statement = physical.prepareStatement(sql);
+        if (cached != null) {
+            // The same SQL is already open on this connection (a nested use); this one is not cached.
+            return statement;
+        }
+
+        cached = new CachedStatement(sql, statement);
+        statements.put(sql, cached);
+        evictOverflow();
+        return checkOut(cached, leased);
+    }
+
+    /**
+     * Called when the connection goes back to the pool. Statements a caller never closed are dropped rather
+     * than reused, since their state is unknown.
+     */
+    synchronized void releaseCheckedOut() {
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (iterator.hasNext()) {
+            CachedStatement cached = iterator.next();
+            if (cached.checkedOut) {
+                iterator.remove();
+                closeQuietly(cached);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private PreparedStatement checkOut(CachedStatement cached, Connection leased) {
+        cached.checkedOut = true;
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new StatementLease(cached, leased));
+    }
+
+    private synchronized void checkIn(CachedStatement cached) {
+        try {
+            cached.statement.clearParameters();
+            cached.statement.clearBatch();
+            cached.statement.clearWarnings();
+            cached.checkedOut = false;
+            if (statements.get(cached.sql) != cached) {
+                // Evicted while it was checked out.
+                closeQuietly(cached);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Dropping cached statement that could not be reset: {0}", e.getMessage());
+            statements.remove(cached.sql, cached);
+            closeQuietly(cached);
+        }
+    }
+
+    private void evictOverflow() {
+        if (statements.size() <= maxSize) {
+            return;
+        }
+        List<CachedStatement> evicted = new ArrayList<>();
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            CachedStatement eldest = iterator.next();
+            iterator.remove();
+            evictions.increment();
+            if (!eldest.checkedOut) {
+                evicted.add(eldest);
+            }
+        }
+        for (CachedStatement cached : evicted) {
+            closeQuietly(cached);
+        }
+    }
+
+    private static void closeQuietly(CachedStatement cached) {
+        try {
+            cached.statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing cached statement: {0}", e.getMessage());
+        }
+    }
+
+    private static final class CachedStatement {
+        private final String sql;
+        private final PreparedStatement statement;
+        private boolean checkedOut;
+
+        private CachedStatement(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+        }
+    }
+
+    private final class StatementLease implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection leased;
+        private boolean returned;
+
+        private StatementLease(CachedStatement cached, Connection leased) {
+            this.cached = cached;
+            this.leased = leased;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        checkIn(cached);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || cached.statement.isClosed();
+                case "getConnection":
+                    return leased;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.sql + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Statement has already been closed.");
+            }
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
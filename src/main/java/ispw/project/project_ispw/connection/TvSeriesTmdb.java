@@ -18,7 +18,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -30,6 +33,7 @@ public class TvSeriesTmdb {
     private static final String BASE_URL = "https://api.themoviedb.org/3/tv/";
     private static final String SEARCH_TV_URL = "https://api.themoviedb.org/3/search/tv";
     private static final Gson gson = new Gson();
+    private static final long ASYNC_TIMEOUT_SECONDS = 45;
 
     private static final OkHttpClient client = new OkHttpClient.Builder()
             .connectTimeout(10, TimeUnit.SECONDS)
@@ -37,6 +41,8 @@ public class TvSeriesTmdb {
             .writeTimeout(30, TimeUnit.SECONDS)
             .build();
 
+    private static final SingleFlight<ExceptionTmdbApi> IN_FLIGHT = new SingleFlight<>(ExceptionTmdbApi.class);
+
     private static String apiKey;
 
     static {
@@ -61,29 +67,66 @@ public class TvSeriesTmdb {
         // Private constructor to prevent instantiation
     }
 
-    private static String executeHttpRequest(String url) throws ExceptionTmdbApi {
-        Request request = new Request.Builder()
+    private static Request buildRequest(String url) {
+        return new Request.Builder()
                 .url(url)
                 .build();
+    }
 
-        try (Response response = client.newCall(request).execute()) {
-            String responseBody = response.body().string();
+    private static String readResponseBody(Response response) throws IOException {
+        String responseBody = response.body().string();
 
-            if (!response.isSuccessful()) {
-                throw new ExceptionTmdbApi(
-                        "TMDb API request failed: HTTP " + response.code() + " - " + responseBody);
-            }
-            return responseBody;
+        if (!response.isSuccessful()) {
+            throw new ExceptionTmdbApi(
+                    "TMDb API request failed: HTTP " + response.code() + " - " + responseBody, response.code());
+        }
+        return responseBody;
+    }
 
+    private static String executeHttpRequest(String url) throws ExceptionTmdbApi {
+        try (Response response = client.newCall(buildRequest(url)).execute()) {
+            return readResponseBody(response);
         } catch (IOException e) {
             throw new ExceptionTmdbApi("Network or I/O error during TMDb API call: " + e.getMessage(), e);
         }
     }
 
+    private static <T> CompletableFuture<T> executeHttpRequestAsync(String url, Function<String, T> parser) {
+        return OkHttpFutures.enqueue(client.newCall(buildRequest(url)), ASYNC_TIMEOUT_SECONDS,
+                response -> parser.apply(readResponseBody(response)), TvSeriesTmdb::asyncFailure);
+    }
+
+    private static ExceptionTmdbApi asyncFailure(Exception e) {
+        if (e instanceof ExceptionTmdbApi tmdbE) {
+            return tmdbE;
+        }
+        if (e instanceof IOException) {
+            return new ExceptionTmdbApi("Network or I/O error during TMDb API call: " + e.getMessage(), e);
+        }
+        if (e instanceof TimeoutException) {
+            return new ExceptionTmdbApi("TMDb API call timed out after " + ASYNC_TIMEOUT_SECONDS + " seconds.", e);
+        }
+        return new ExceptionTmdbApi("Failed to process TMDb API response: " + e, e);
+    }
+
     public static TvSeriesModel getTvSeriesById(int tvSeriesId) throws ExceptionTmdbApi {
-        String url = BASE_URL + tvSeriesId + "?api_key=" + apiKey;
-        String jsonResponse = executeHttpRequest(url);
+        return IN_FLIGHT.execute("tv:" + tvSeriesId, () -> fetchTvSeriesById(tvSeriesId));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getTvSeriesById(int)}. Failures complete the future with
+     * {@link ExceptionTmdbApi}. Coalesced with concurrent lookups of the same series, blocking or not.
+     */
+    public static CompletableFuture<TvSeriesModel> getTvSeriesByIdAsync(int tvSeriesId) {
+        return IN_FLIGHT.executeAsync("tv:" + tvSeriesId, () -> executeHttpRequestAsync(
+                BASE_URL + tvSeriesId + "?api_key=" + apiKey, json -> parseTvSeries(tvSeriesId, json)));
+    }
 
+    private static TvSeriesModel fetchTvSeriesById(int tvSeriesId) throws ExceptionTmdbApi {
+        return parseTvSeries(tvSeriesId, executeHttpRequest(BASE_URL + tvSeriesId + "?api_key=" + apiKey));
+    }
+
+    private static TvSeriesModel parseTvSeries(int tvSeriesId, String jsonResponse) {
         try {
             TvSeriesModel tvSeries = gson.fromJson(jsonResponse, TvSeriesModel.class);
             if (tvSeries == null) {
@@ -100,14 +143,27 @@ public class TvSeriesTmdb {
     }
 
     public static List<TvSeriesModel> searchTvSeries(String query, int page) throws ExceptionTmdbApi {
+        return IN_FLIGHT.execute("search:" + page + ":" + query, () -> fetchSearchTvSeries(query, page));
+    }
+
+    public static CompletableFuture<List<TvSeriesModel>> searchTvSeriesAsync(String query, int page) {
+        return IN_FLIGHT.executeAsync("search:" + page + ":" + query,
+                () -> executeHttpRequestAsync(searchUrl(query, page), json -> parseSearchResults(query, json)));
+    }
+
+    private static List<TvSeriesModel> fetchSearchTvSeries(String query, int page) throws ExceptionTmdbApi {
+        return parseSearchResults(query, executeHttpRequest(searchUrl(query, page)));
+    }
+
+    private static String searchUrl(String query, int page) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(SEARCH_TV_URL).newBuilder();
         urlBuilder.addQueryParameter("api_key", apiKey);
         urlBuilder.addQueryParameter("query", query);
         urlBuilder.addQueryParameter("page", String.valueOf(page));
-        String url = urlBuilder.build().toString();
-
-        String jsonResponse = executeHttpRequest(url);
+        return urlBuilder.build().toString();
+    }
 
+    private static List<TvSeriesModel> parseSearchResults(String query, String jsonResponse) {
         try {
             JsonObject rootJson = gson.fromJson(jsonResponse, JsonObject.class);
             JsonArray resultsArray = rootJson.getAsJsonArray("results");
@@ -2,6 +2,8 @@ package ispw.project.project_ispw.controller.application;
 
 import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
+import ispw.project.project_ispw.bean.ListStats;
 import ispw.project.project_ispw.bean.MovieBean;
 import ispw.project.project_ispw.bean.TvSeriesBean;
 import ispw.project.project_ispw.bean.UserBean;
@@ -12,6 +14,7 @@ import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.model.AnimeModel;
 import ispw.project.project_ispw.model.MovieModel;
 import ispw.project.project_ispw.model.TvSeriesModel;
+import ispw.project.project_ispw.model.UnifiedSearchResult;
 
 import java.util.List;
 
@@ -37,7 +40,9 @@ public class ApplicationController {
         ListContentDaoProvider listContentDaoProvider = new ListContentDaoProvider(
                 persistenceState.getListMovieDao(),
                 persistenceState.getListTvSeriesDao(),
-                persistenceState.getListAnimeDao()
+                persistenceState.getListAnimeDao(),
+                persistenceState.getListContentsDao(),
+                persistenceState.getListStatsDao()
         );
 
         ContentDetailDaoProvider contentDetailDaoProvider = new ContentDetailDaoProvider(
@@ -126,6 +131,10 @@ public class ApplicationController {
         return contentService.searchAndMapAnime(query);
     }
 
+    public UnifiedSearchResult searchAll(String query) throws ExceptionApplication {
+        return contentService.searchAll(query);
+    }
+
     public MovieModel retrieveMovieById(int id) throws ExceptionApplication {
         return contentService.retrieveMovieById(id);
     }
@@ -174,6 +183,10 @@ public class ApplicationController {
         return listManagementService.getListsForUser(userBean);
     }
 
+    public List<ListBean> getListsPageForUser(UserBean userBean, int afterListId, int pageSize) throws ExceptionApplication {
+        return listManagementService.getListsPageForUser(userBean, afterListId, pageSize);
+    }
+
     public boolean createList(ListBean newListBean, UserBean userBean) throws ExceptionApplication {
         return listManagementService.createList(newListBean, userBean);
     }
@@ -182,6 +195,14 @@ public class ApplicationController {
         return listManagementService.deleteList(listBean);
     }
 
+    public ListContents getListContents(ListBean listBean) throws ExceptionApplication {
+        return listManagementService.getListContents(listBean);
+    }
+
+    public ListStats getListStats(ListBean listBean) throws ExceptionApplication {
+        return listManagementService.getListStats(listBean);
+    }
+
     public List<MovieBean> getMoviesInList(ListBean listBean) throws ExceptionApplication {
         return listManagementService.getMoviesInList(listBean);
     }
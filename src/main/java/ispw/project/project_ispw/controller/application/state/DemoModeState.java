@@ -2,8 +2,10 @@ package ispw.project.project_ispw.controller.application.state;
 
 import ispw.project.project_ispw.dao.AnimeDao;
 import ispw.project.project_ispw.dao.ListAnime;
+import ispw.project.project_ispw.dao.ListContentsDao;
 import ispw.project.project_ispw.dao.ListDao;
 import ispw.project.project_ispw.dao.ListMovie;
+import ispw.project.project_ispw.dao.ListStatsDao;
 import ispw.project.project_ispw.dao.ListTvSeries;
 import ispw.project.project_ispw.dao.MovieDao;
 import ispw.project.project_ispw.dao.TvSeriesDao;
@@ -23,6 +25,7 @@ public class DemoModeState implements PersistenceModeState {
     private final ListMovie listMovieDao;
     private final ListTvSeries listTvSeriesDao;
     private final ListAnime listAnimeDao;
+    private final ListStatsDao listStatsDao;
 
     public DemoModeState() {
         this.userDao = new UserDaoInMemory();
@@ -33,6 +36,7 @@ public class DemoModeState implements PersistenceModeState {
         this.listMovieDao = new ListMovieDaoInMemory();
         this.listTvSeriesDao = new ListTvSeriesDaoInMemory();
         this.listAnimeDao = new ListAnimeDaoInMemory();
+        this.listStatsDao = new ListStatsDaoInMemory(listMovieDao, listTvSeriesDao, listAnimeDao);
     }
 
     @Override
@@ -74,4 +78,15 @@ public class DemoModeState implements PersistenceModeState {
     public ListAnime getListAnimeDao() {
         return listAnimeDao;
     }
+
+    @Override
+    public ListContentsDao getListContentsDao() {
+        // The in-memory DAOs are already local; the per-type lookups are used instead.
+        return null;
+    }
+
+    @Override
+    public ListStatsDao getListStatsDao() {
+        return listStatsDao;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package ispw.project.project_ispw.controller.application.state;
 
 import ispw.project.project_ispw.dao.AnimeDao;
 import ispw.project.project_ispw.dao.ListAnime;
+import ispw.project.project_ispw.dao.ListContentsDao;
 import ispw.project.project_ispw.dao.ListDao;
 import ispw.project.project_ispw.dao.ListMovie;
+import ispw.project.project_ispw.dao.ListStatsDao;
 import ispw.project.project_ispw.dao.ListTvSeries;
 import ispw.project.project_ispw.dao.MovieDao;
 import ispw.project.project_ispw.dao.TvSeriesDao;
@@ -19,6 +21,8 @@ import ispw.project.project_ispw.dao.jdbc.AnimeDaoJdbc;
 import ispw.project.project_ispw.dao.jdbc.ListMovieDaoJdbc;
 import ispw.project.project_ispw.dao.jdbc.ListTvSeriesDaoJdbc;
 import ispw.project.project_ispw.dao.jdbc.ListAnimeDaoJdbc;
+import ispw.project.project_ispw.dao.jdbc.ListContentsDaoJdbc;
+import ispw.project.project_ispw.dao.jdbc.ListStatsDaoJdbc;
 
 import ispw.project.project_ispw.dao.csv.UserDaoCsv;
 import ispw.project.project_ispw.dao.csv.ListDaoCsv;
@@ -28,6 +32,7 @@ import ispw.project.project_ispw.dao.csv.AnimeDaoCsv;
 import ispw.project.project_ispw.dao.csv.ListMovieDaoCsv;
 import ispw.project.project_ispw.dao.csv.ListTvSeriesDaoCsv;
 import ispw.project.project_ispw.dao.csv.ListAnimeDaoCsv;
+import ispw.project.project_ispw.dao.csv.ListStatsDaoCsv;
 
 public class FullModeState implements PersistenceModeState {
 
@@ -39,6 +44,8 @@ public class FullModeState implements PersistenceModeState {
     private final ListMovie listMovieDao;
     private final ListTvSeries listTvSeriesDao;
     private final ListAnime listAnimeDao;
+    private final ListContentsDao listContentsDao;
+    private final ListStatsDao listStatsDao;
 
     public FullModeState(DaoType daoType) {
 
@@ -53,6 +60,8 @@ public class FullModeState implements PersistenceModeState {
                     this.listMovieDao = new ListMovieDaoJdbc();
                     this.listTvSeriesDao = new ListTvSeriesDaoJdbc();
                     this.listAnimeDao = new ListAnimeDaoJdbc();
+                    this.listContentsDao = new ListContentsDaoJdbc();
+                    this.listStatsDao = new ListStatsDaoJdbc();
                 } catch (Exception e) {
                     throw new IllegalStateException("Error initializing JDBC DAOs.", e);
                 }
@@ -65,9 +74,14 @@ public class FullModeState implements PersistenceModeState {
                     this.movieDao = new MovieDaoCsv();
                     this.tvSeriesDao = new TvSeriesDaoCsv();
                     this.animeDao = new AnimeDaoCsv();
-                    this.listMovieDao = new ListMovieDaoCsv();
-                    this.listTvSeriesDao = new ListTvSeriesDaoCsv();
-                    this.listAnimeDao = new ListAnimeDaoCsv();
+                    ListMovieDaoCsv listMovieDaoCsv = new ListMovieDaoCsv();
+                    ListTvSeriesDaoCsv listTvSeriesDaoCsv = new ListTvSeriesDaoCsv();
+                    ListAnimeDaoCsv listAnimeDaoCsv = new ListAnimeDaoCsv();
+                    this.listMovieDao = listMovieDaoCsv;
+                    this.listTvSeriesDao = listTvSeriesDaoCsv;
+                    this.listAnimeDao = listAnimeDaoCsv;
+                    this.listContentsDao = null;
+                    this.listStatsDao = new ListStatsDaoCsv(listMovieDaoCsv, listTvSeriesDaoCsv, listAnimeDaoCsv);
                 } catch (Exception e) {
                     throw new IllegalStateException("Error initializing CSV DAOs.", e);
                 }
@@ -117,4 +131,14 @@ public class FullModeState implements PersistenceModeState {
     public ListAnime getListAnimeDao() {
         return listAnimeDao;
     }
+
+    @Override
+    public ListContentsDao getListContentsDao() {
+        return listContentsDao;
+    }
+
+    @Override
+    public ListStatsDao getListStatsDao() {
+        return listStatsDao;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package ispw.project.project_ispw.controller.application.state;
 
 import ispw.project.project_ispw.dao.AnimeDao;
 import ispw.project.project_ispw.dao.ListAnime;
+import ispw.project.project_ispw.dao.ListContentsDao;
 import ispw.project.project_ispw.dao.ListDao;
 import ispw.project.project_ispw.dao.ListMovie;
+import ispw.project.project_ispw.dao.ListStatsDao;
 import ispw.project.project_ispw.dao.ListTvSeries;
 import ispw.project.project_ispw.dao.MovieDao;
 import ispw.project.project_ispw.dao.TvSeriesDao;
@@ -18,4 +20,6 @@ public interface PersistenceModeState {
     ListMovie getListMovieDao();
     ListTvSeries getListTvSeriesDao();
     ListAnime getListAnimeDao();
+    ListContentsDao getListContentsDao();
+    ListStatsDao getListStatsDao();
 }
\ No newline at end of file
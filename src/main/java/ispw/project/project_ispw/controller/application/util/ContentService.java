@@ -1,5 +1,7 @@
 package ispw.project.project_ispw.controller.application.util;
 
+import ispw.project.project_ispw.ApplicationConfig;
+import ispw.project.project_ispw.cache.MetadataCache;
 import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.connection.AnimeAniList;
 import ispw.project.project_ispw.connection.MovieTmdb;
@@ -9,14 +11,88 @@ import ispw.project.project_ispw.exception.ExceptionTmdbApi;
 import ispw.project.project_ispw.model.AnimeModel;
 import ispw.project.project_ispw.model.MovieModel;
 import ispw.project.project_ispw.model.TvSeriesModel;
+import ispw.project.project_ispw.model.UnifiedSearchResult;
 
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class ContentService {
 
+    private static final Logger LOGGER = Logger.getLogger(ContentService.class.getName());
+
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private static final int DEFAULT_CACHE_MAX_SIZE = 500;
+    private static final long DEFAULT_MOVIE_TTL_MS = 24 * 60 * 60 * 1000L;
+    private static final long DEFAULT_TVSERIES_TTL_MS = 6 * 60 * 60 * 1000L;
+    private static final long DEFAULT_ANIME_TTL_MS = 60 * 60 * 1000L;
+    private static final long DEFAULT_NEGATIVE_TTL_MS = 10 * 60 * 1000L;
+    private static final long DEFAULT_SEARCH_ALL_DEADLINE_MS = 5000L;
+
+    // Details are looked up again when a title is opened, added to a list and removed from it.
+    private final MetadataCache<MovieModel, ExceptionTmdbApi> movieCache;
+    private final MetadataCache<TvSeriesModel, ExceptionTmdbApi> tvSeriesCache;
+    private final MetadataCache<AnimeModel, ExceptionAniListApi> animeCache;
+    private final long searchAllDeadlineMs;
+
     public ContentService() {
-        // Empty constructor
+        this(new ApplicationConfig());
+    }
+
+    public ContentService(ApplicationConfig config) {
+        int maxSize = (int) longProperty(config, "metadata.cache.max.size", DEFAULT_CACHE_MAX_SIZE);
+        long negativeTtlMs = longProperty(config, "metadata.cache.negative.ttl.ms", DEFAULT_NEGATIVE_TTL_MS);
+
+        this.movieCache = new MetadataCache<>("movie", maxSize,
+                longProperty(config, "metadata.cache.movie.ttl.ms", DEFAULT_MOVIE_TTL_MS), negativeTtlMs,
+                ExceptionTmdbApi.class, e -> e.getHttpStatusCode() == HTTP_NOT_FOUND);
+        this.tvSeriesCache = new MetadataCache<>("tvseries", maxSize,
+                longProperty(config, "metadata.cache.tvseries.ttl.ms", DEFAULT_TVSERIES_TTL_MS), negativeTtlMs,
+                ExceptionTmdbApi.class, e -> e.getHttpStatusCode() == HTTP_NOT_FOUND);
+        this.animeCache = new MetadataCache<>("anime", maxSize,
+                longProperty(config, "metadata.cache.anime.ttl.ms", DEFAULT_ANIME_TTL_MS), negativeTtlMs,
+                ExceptionAniListApi.class, e -> e.getHttpStatusCode() == HTTP_NOT_FOUND);
+        this.searchAllDeadlineMs = longProperty(config, "search.all.deadline.ms", DEFAULT_SEARCH_ALL_DEADLINE_MS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::logCacheStats, "metadata-cache-stats"));
+    }
+
+    private void logCacheStats() {
+        LOGGER.log(Level.INFO, "Metadata caches at exit: {0}, {1}, {2}", new Object[]{movieCache, tvSeriesCache, animeCache});
+    }
+
+    private static long longProperty(ApplicationConfig config, String key, long defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid value ''{0}'' for {1}. Using default: {2}", new Object[]{value, key, defaultValue});
+            return defaultValue;
+        }
+    }
+
+    public MetadataCache<MovieModel, ExceptionTmdbApi> getMovieCache() {
+        return movieCache;
+    }
+
+    public MetadataCache<TvSeriesModel, ExceptionTmdbApi> getTvSeriesCache() {
+        return tvSeriesCache;
+    }
+
+    public MetadataCache<AnimeModel, ExceptionAniListApi> getAnimeCache() {
+        return animeCache;
     }
 
     public List<MovieModel> searchAndMapMovies(String query) throws ExceptionApplication {
@@ -43,6 +119,57 @@ public class ContentService {
         }
     }
 
+    /**
+     * Searches movies, TV series and anime concurrently and merges the results by {@link SearchRanking}. Categories
+     * that fail or have not answered by the deadline are reported as unavailable; only when all three are
+     * unavailable does the search fail. Cancelling a late category cancels its HTTP call, unless another caller is
+     * still waiting on the same coalesced request.
+     */
+    public UnifiedSearchResult searchAll(String query) throws ExceptionApplication {
+        CompletableFuture<List<MovieModel>> movies = MovieTmdb.searchMoviesAsync(query, 1);
+        CompletableFuture<List<TvSeriesModel>> tvSeries = TvSeriesTmdb.searchTvSeriesAsync(query, 1);
+        CompletableFuture<List<AnimeModel>> anime = AnimeAniList.searchAnimeAsync(query);
+
+        try {
+            CompletableFuture.allOf(movies, tvSeries, anime).get(searchAllDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            LOGGER.log(Level.FINE, "searchAll for ''{0}'' did not fully complete: {1}", new Object[]{query, e.toString()});
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            movies.cancel(true);
+            tvSeries.cancel(true);
+            anime.cancel(true);
+            throw new ExceptionApplication("Search was interrupted.", e);
+        }
+
+        List<List<?>> resultsPerCategory = new ArrayList<>();
+        List<String> unavailable = new ArrayList<>();
+        collectSearchResults("Movie", movies, resultsPerCategory, unavailable);
+        collectSearchResults("TvSeries", tvSeries, resultsPerCategory, unavailable);
+        collectSearchResults("Anime", anime, resultsPerCategory, unavailable);
+
+        if (resultsPerCategory.isEmpty()) {
+            throw new ExceptionApplication("Search failed for every category: " + unavailable);
+        }
+        return new UnifiedSearchResult(SearchRanking.merge(query, resultsPerCategory), unavailable);
+    }
+
+    private static void collectSearchResults(String category, CompletableFuture<? extends List<?>> future,
+                                             List<List<?>> resultsPerCategory, List<String> unavailable) {
+        if (!future.isDone()) {
+            future.cancel(true);
+            LOGGER.log(Level.WARNING, "{0} search missed the deadline; its request was cancelled unless shared with another caller.", category);
+            unavailable.add(category);
+            return;
+        }
+        try {
+            resultsPerCategory.add(future.join());
+        } catch (CompletionException | CancellationException e) {
+            LOGGER.log(Level.WARNING, "{0} search failed: {1}", new Object[]{category, e.getMessage()});
+            unavailable.add(category);
+        }
+    }
+
     public MovieModel retrieveMovieById(int id) throws ExceptionApplication {
         try {
             return fetchAndMapMovieModel(id);
@@ -55,7 +182,7 @@ public class ContentService {
 
     private MovieModel fetchAndMapMovieModel(int id) throws ExceptionApplication {
         try {
-            MovieModel modelMovie = MovieTmdb.getMovieById(id);
+            MovieModel modelMovie = movieCache.get(id, MovieTmdb::getMovieById);
 
             if (modelMovie == null) {
                 throw new ExceptionApplication("Movie with ID " + id + " not found or returned null model from TMDb API.");
@@ -79,7 +206,7 @@ public class ContentService {
 
     private TvSeriesModel fetchAndMapTvSeriesModel(int id) throws ExceptionApplication {
         try {
-            TvSeriesModel modelTvSeries = TvSeriesTmdb.getTvSeriesById(id);
+            TvSeriesModel modelTvSeries = tvSeriesCache.get(id, TvSeriesTmdb::getTvSeriesById);
 
             if (modelTvSeries == null) {
                 throw new ExceptionApplication("TV Series with ID " + id + " not found or returned null model from TMDb API.");
@@ -91,10 +218,9 @@ public class ContentService {
         }
     }
 
-
     public AnimeModel retrieveAnimeById(int id) throws ExceptionApplication {
         try {
-            return AnimeAniList.getAnimeById(id);
+            return animeCache.get(id, AnimeAniList::getAnimeById);
         } catch (ExceptionAniListApi aniListE) {
             throw new ExceptionApplication("Failed to retrieve Anime details: " + aniListE.getMessage(), aniListE);
         } catch (Exception e) {
@@ -1,21 +1,30 @@
 package ispw.project.project_ispw.controller.application.util;
 
 import ispw.project.project_ispw.dao.ListAnime;
+import ispw.project.project_ispw.dao.ListContentsDao;
 import ispw.project.project_ispw.dao.ListMovie;
+import ispw.project.project_ispw.dao.ListStatsDao;
 import ispw.project.project_ispw.dao.ListTvSeries;
 
 public class ListContentDaoProvider {
     private final ListMovie listMovieDao;
     private final ListTvSeries listTvSeriesDao;
     private final ListAnime listAnimeDao;
+    private final ListContentsDao listContentsDao;
+    private final ListStatsDao listStatsDao;
 
-    public ListContentDaoProvider(ListMovie listMovieDao, ListTvSeries listTvSeriesDao, ListAnime listAnimeDao) {
+    public ListContentDaoProvider(ListMovie listMovieDao, ListTvSeries listTvSeriesDao, ListAnime listAnimeDao,
+                                  ListContentsDao listContentsDao, ListStatsDao listStatsDao) {
         this.listMovieDao = listMovieDao;
         this.listTvSeriesDao = listTvSeriesDao;
         this.listAnimeDao = listAnimeDao;
+        this.listContentsDao = listContentsDao;
+        this.listStatsDao = listStatsDao;
     }
 
     public ListMovie getListMovieDao() { return listMovieDao; }
     public ListTvSeries getListTvSeriesDao() { return listTvSeriesDao; }
     public ListAnime getListAnimeDao() { return listAnimeDao; }
+    public ListContentsDao getListContentsDao() { return listContentsDao; }
+    public ListStatsDao getListStatsDao() { return listStatsDao; }
 }
@@ -2,9 +2,12 @@ package ispw.project.project_ispw.controller.application.util;
 
 import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
+import ispw.project.project_ispw.bean.ListStats;
 import ispw.project.project_ispw.bean.MovieBean;
 import ispw.project.project_ispw.bean.TvSeriesBean;
 import ispw.project.project_ispw.bean.UserBean;
+import ispw.project.project_ispw.dao.ListContentsDao;
 import ispw.project.project_ispw.dao.ListDao;
 import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.exception.ExceptionDao;
@@ -100,45 +103,29 @@ public class ListManagementService {
     }
 
     private void getOrCreateMovieInDatabase(MovieBean movie) throws ExceptionApplication {
-        MovieBean existingMovieInDb = null;
         try {
-            existingMovieInDb = contentDetailDaoProvider.getMovieDao().retrieveById(movie.getIdMovieTmdb());
+            contentDetailDaoProvider.getMovieDao().upsertMovie(movie);
         } catch (Exception e) {
-            throw new ExceptionApplication("Failed to find movie in the database: " + e.getMessage(), e);
-        }
-
-        if (existingMovieInDb == null) {
-            try {
-                contentDetailDaoProvider.getMovieDao().saveMovie(movie);
-            } catch (Exception e) {
-                throw new ExceptionApplication("Failed to save movie details to database: " + e.getMessage(), e);
-            }
+            throw new ExceptionApplication("Failed to save movie details to database: " + e.getMessage(), e);
         }
     }
 
     public boolean removeMovieFromList(ListBean targetList, int movieId) throws ExceptionApplication {
-        MovieModel movie = contentService.retrieveMovieById(movieId);
-        if (movie == null) {
-            throw new ExceptionApplication("Movie with ID " + movieId + " not found for removal.");
-        }
-        MovieBean movieBean = new MovieBean(
-                movie.getId(),
-                movie.getRuntime(),
-                movie.getTitle());
-        return removeMovieFromList(targetList, movieBean);
-    }
-
-    public boolean removeMovieFromList(ListBean targetList, MovieBean movie) throws ExceptionApplication {
         try {
             if (listContentDaoProvider.getListMovieDao() == null) {
                 throw new ExceptionApplication("Functionality not available (List Movie DAO missing).");
             }
-            listContentDaoProvider.getListMovieDao().removeMovieFromList(targetList, movie);
+            listContentDaoProvider.getListMovieDao().removeMovieFromList(targetList, movieId);
             return true;
         } catch (Exception e) {
             throw new ExceptionApplication("Failed to remove movie from list: " + e.getMessage(), e);
         }
     }
+
+    public boolean removeMovieFromList(ListBean targetList, MovieBean movie) throws ExceptionApplication {
+        return removeMovieFromList(targetList, movie.getIdMovieTmdb());
+    }
+
     private int calculateEpisodeRuntime(List<Integer> runTimeList) {
         return (runTimeList != null && !runTimeList.isEmpty()) ? runTimeList.get(0) : 0;
     }
@@ -176,42 +163,19 @@ public class ListManagementService {
     }
 
     private void getOrCreateTvSeriesInDatabase(TvSeriesBean tvSeries) throws ExceptionApplication {
-        TvSeriesBean existingTvSeriesInDb = null;
         try {
-            existingTvSeriesInDb = contentDetailDaoProvider.getTvSeriesDao().retrieveById(tvSeries.getIdTvSeriesTmdb());
+            contentDetailDaoProvider.getTvSeriesDao().upsertTvSeries(tvSeries);
         } catch (Exception e) {
-            throw new ExceptionApplication("Failed to find TV Series in the database: " + e.getMessage(), e);
-        }
-
-        if (existingTvSeriesInDb == null) {
-            try {
-                contentDetailDaoProvider.getTvSeriesDao().saveTvSeries(tvSeries);
-            } catch (ExceptionDao e) {
-                throw new ExceptionApplication("Failed to save TV Series details to database: " + e.getMessage(), e);
-            }
+            throw new ExceptionApplication("Failed to save TV Series details to database: " + e.getMessage(), e);
         }
     }
 
     public boolean removeTvSeriesFromList(ListBean targetList, int tvSeriesId) throws ExceptionApplication {
-        TvSeriesModel tvSeries = contentService.retrieveTvSeriesById(tvSeriesId);
-        if (tvSeries == null) {
-            throw new ExceptionApplication("TV Series with ID " + tvSeriesId + " not found for removal.");
-        }
-        TvSeriesBean tvSeriesBean = new TvSeriesBean(
-                calculateEpisodeRuntime(tvSeries.getEpisodeRunTime()),
-                tvSeries.getId(),
-                tvSeries.getNumberOfEpisodes(),
-                tvSeries.getName()
-        );
-        return removeTvSeriesFromList(targetList, tvSeriesBean);
-    }
-
-    public boolean removeTvSeriesFromList(ListBean targetList, TvSeriesBean tvSeries) throws ExceptionApplication {
         try {
             if (listContentDaoProvider.getListTvSeriesDao() == null) {
                 throw new ExceptionApplication("Functionality not available (List TV Series DAO missing).");
             }
-            listContentDaoProvider.getListTvSeriesDao().removeTvSeriesFromList(targetList, tvSeries);
+            listContentDaoProvider.getListTvSeriesDao().removeTvSeriesFromList(targetList, tvSeriesId);
             return true;
         } catch (ExceptionDao e) {
             throw new ExceptionApplication("Failed to remove TV Series from list: " + e.getMessage(), e);
@@ -220,6 +184,10 @@ public class ListManagementService {
         }
     }
 
+    public boolean removeTvSeriesFromList(ListBean targetList, TvSeriesBean tvSeries) throws ExceptionApplication {
+        return removeTvSeriesFromList(targetList, tvSeries.getIdTvSeriesTmdb());
+    }
+
     public boolean addAnimeToList(ListBean targetList, int animeId) throws ExceptionApplication {
         AnimeModel anime = contentService.retrieveAnimeById(animeId);
         if (anime == null) {
@@ -253,48 +221,29 @@ public class ListManagementService {
     }
 
     private void getOrCreateAnimeInDatabase(AnimeBean anime) throws ExceptionApplication {
-        AnimeBean existingAnimeInDb = null;
         try {
-            existingAnimeInDb = contentDetailDaoProvider.getAnimeDao().retrieveById(anime.getIdAnimeTmdb());
+            contentDetailDaoProvider.getAnimeDao().upsertAnime(anime);
         } catch (Exception e) {
-            throw new ExceptionApplication("Failed to find anime in the database: " + e.getMessage(), e);
-        }
-
-        if (existingAnimeInDb == null) {
-            try {
-                contentDetailDaoProvider.getAnimeDao().saveAnime(anime);
-            } catch (Exception e) {
-                throw new ExceptionApplication("Failed to save anime details to database: " + e.getMessage(), e);
-            }
+            throw new ExceptionApplication("Failed to save anime details to database: " + e.getMessage(), e);
         }
     }
 
     public boolean removeAnimeFromList(ListBean targetList, int animeId) throws ExceptionApplication {
-        AnimeModel anime = contentService.retrieveAnimeById(animeId);
-        if (anime == null) {
-            throw new ExceptionApplication("Anime with ID " + animeId + " not found for removal.");
-        }
-        AnimeBean animeBean = new AnimeBean(
-                anime.getId(),
-                anime.getDuration(),
-                anime.getEpisodes(),
-                anime.getTitle() != null ? anime.getTitle().getRomaji() : null // Use romaji title
-        );
-        return removeAnimeFromList(targetList, animeBean);
-    }
-
-    public boolean removeAnimeFromList(ListBean targetList, AnimeBean anime) throws ExceptionApplication {
         try {
             if (listContentDaoProvider.getListAnimeDao() == null) {
                 throw new ExceptionApplication("Functionality not available (List Anime DAO missing).");
             }
-            listContentDaoProvider.getListAnimeDao().removeAnimeFromList(targetList, anime);
+            listContentDaoProvider.getListAnimeDao().removeAnimeFromList(targetList, animeId);
             return true;
         } catch (Exception e) {
             throw new ExceptionApplication("Failed to remove Anime from list: " + e.getMessage(), e);
         }
     }
 
+    public boolean removeAnimeFromList(ListBean targetList, AnimeBean anime) throws ExceptionApplication {
+        return removeAnimeFromList(targetList, anime.getIdAnimeTmdb());
+    }
+
     public List<ListBean> getListsForUser(UserBean userBean) throws ExceptionApplication {
         try {
             if (listDao == null) {
@@ -306,6 +255,17 @@ public class ListManagementService {
         }
     }
 
+    public List<ListBean> getListsPageForUser(UserBean userBean, int afterListId, int pageSize) throws ExceptionApplication {
+        try {
+            if (listDao == null) {
+                throw new ExceptionApplication("Functionality not available (List DAO missing).");
+            }
+            return listDao.retrieveListsOfUsername(userBean.getUsername(), afterListId, pageSize);
+        } catch (Exception e) {
+            throw new ExceptionApplication("Failed to retrieve user lists: " + e.getMessage(), e);
+        }
+    }
+
     public boolean createList(ListBean newListBean, UserBean userBean) throws ExceptionApplication {
         try {
             if (listDao == null) {
@@ -331,6 +291,12 @@ public class ListManagementService {
                 throw new ExceptionApplication("Functionality not available (Missing DAOs).");
             }
 
+            ListContentsDao listContentsDao = listContentDaoProvider.getListContentsDao();
+            if (listContentsDao != null) {
+                listContentsDao.deleteListWithContents(listBean);
+                return true;
+            }
+
             listContentDaoProvider.getListMovieDao().removeAllMoviesFromList(listBean);
 
             listContentDaoProvider.getListTvSeriesDao().removeAllTvSeriesFromList(listBean);
@@ -344,6 +310,29 @@ public class ListManagementService {
         }
     }
 
+    public ListContents getListContents(ListBean listBean) throws ExceptionApplication {
+        ListContentsDao listContentsDao = listContentDaoProvider.getListContentsDao();
+        if (listContentsDao == null) {
+            return new ListContents(getMoviesInList(listBean), getTvSeriesInList(listBean), getAnimeInList(listBean));
+        }
+        try {
+            return listContentsDao.getListContents(listBean);
+        } catch (Exception e) {
+            throw new ExceptionApplication("Failed to retrieve list contents: " + e.getMessage(), e);
+        }
+    }
+
+    public ListStats getListStats(ListBean listBean) throws ExceptionApplication {
+        try {
+            if (listContentDaoProvider.getListStatsDao() == null) {
+                throw new ExceptionApplication("Functionality not available (List Stats DAO missing).");
+            }
+            return listContentDaoProvider.getListStatsDao().getListStats(listBean);
+        } catch (Exception e) {
+            throw new ExceptionApplication("Failed to compute list statistics: " + e.getMessage(), e);
+        }
+    }
+
     public List<MovieBean> getMoviesInList(ListBean listBean) throws ExceptionApplication {
         try {
             if (listContentDaoProvider.getListMovieDao() == null) {
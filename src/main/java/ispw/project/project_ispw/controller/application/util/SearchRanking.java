@@ -0,0 +1,103 @@
+package ispw.project.project_ispw.controller.application.util;
+
+import ispw.project.project_ispw.model.AnimeModel;
+import ispw.project.project_ispw.model.MovieModel;
+import ispw.project.project_ispw.model.TvSeriesModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Merges per-category search results into one ranking. Each upstream already orders its own results by relevance,
+ * but their popularity figures are on different scales, so the score combines how well the title matches the query,
+ * the item's position in its own result list and its rating normalized to [0, 1].
+ */
+final class SearchRanking {
+
+    private static final double EXACT_MATCH = 3.0;
+    private static final double PREFIX_MATCH = 2.0;
+    private static final double CONTAINS_MATCH = 1.0;
+    private static final double RATING_WEIGHT = 0.5;
+
+    private SearchRanking() {
+        // This constructor is intentionally empty to prevent instantiation.
+    }
+
+    static List<Object> merge(String query, List<? extends List<?>> resultsPerCategory) {
+        String normalizedQuery = normalize(query);
+        List<Scored> scored = new ArrayList<>();
+        for (List<?> results : resultsPerCategory) {
+            for (int rank = 0; rank < results.size(); rank++) {
+                Object item = results.get(rank);
+                scored.add(new Scored(item, score(item, normalizedQuery, rank)));
+            }
+        }
+        // List.sort is stable: equal scores keep the category order given by the caller.
+        scored.sort(Comparator.comparingDouble(Scored::score).reversed());
+
+        List<Object> merged = new ArrayList<>(scored.size());
+        for (Scored entry : scored) {
+            merged.add(entry.item());
+        }
+        return merged;
+    }
+
+    static double score(Object item, String normalizedQuery, int rank) {
+        return switch (item) {
+            case MovieModel movie -> titleMatch(normalizedQuery, movie.getTitle(), movie.getOriginalTitle())
+                    + positionScore(rank) + RATING_WEIGHT * tmdbRating(movie.getVoteAverage(), movie.getVoteCount());
+            case TvSeriesModel tvSeries -> titleMatch(normalizedQuery, tvSeries.getName(), tvSeries.getOriginalName())
+                    + positionScore(rank) + RATING_WEIGHT * tmdbRating(tvSeries.getVoteAverage(), tvSeries.getVoteCount());
+            case AnimeModel anime -> animeTitleMatch(normalizedQuery, anime)
+                    + positionScore(rank) + RATING_WEIGHT * aniListRating(anime.getAverageScore());
+            default -> positionScore(rank);
+        };
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static double animeTitleMatch(String normalizedQuery, AnimeModel anime) {
+        AnimeModel.Title title = anime.getTitle();
+        if (title == null) {
+            return 0.0;
+        }
+        return titleMatch(normalizedQuery, title.getEnglish(), title.getRomaji(), title.getNativeTitle());
+    }
+
+    private static double titleMatch(String normalizedQuery, String... titles) {
+        if (normalizedQuery.isEmpty()) {
+            return 0.0;
+        }
+        double best = 0.0;
+        for (String title : titles) {
+            String normalizedTitle = normalize(title);
+            if (normalizedTitle.equals(normalizedQuery)) {
+                return EXACT_MATCH;
+            } else if (normalizedTitle.startsWith(normalizedQuery)) {
+                best = Math.max(best, PREFIX_MATCH);
+            } else if (normalizedTitle.contains(normalizedQuery)) {
+                best = Math.max(best, CONTAINS_MATCH);
+            }
+        }
+        return best;
+    }
+
+    private static double positionScore(int rank) {
+        return 1.0 / (rank + 1);
+    }
+
+    private static double tmdbRating(double voteAverage, int voteCount) {
+        return voteCount > 0 ? Math.clamp(voteAverage / 10.0, 0.0, 1.0) : 0.0;
+    }
+
+    private static double aniListRating(Integer averageScore) {
+        return averageScore != null ? Math.clamp(averageScore / 100.0, 0.0, 1.0) : 0.0;
+    }
+
+    private record Scored(Object item, double score) {
+    }
+}
@@ -11,6 +11,7 @@ import ispw.project.project_ispw.exception.ExceptionUser;
 import ispw.project.project_ispw.model.AnimeModel;
 import ispw.project.project_ispw.model.MovieModel;
 import ispw.project.project_ispw.model.TvSeriesModel;
+import ispw.project.project_ispw.model.UnifiedSearchResult;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -63,6 +64,7 @@ public class GraphicControllerCli implements GraphicController {
         commands.put("searchanime", new SearchAnimeCommand());
         commands.put("searchmovie", new SearchMovieCommand());
         commands.put("searchtvseries", new SearchTvSeriesCommand());
+        commands.put("searchall", new SearchAllCommand());
         commands.put("saveanimetolist", new SaveAnimeToListCommand());
         commands.put("deleteanimefromlist", new DeleteAnimeFromListCommand());
         commands.put("savemovietolist", new SaveMovieToListCommand());
@@ -136,10 +138,16 @@ public class GraphicControllerCli implements GraphicController {
 
     public String performCliSearchAndDisplay(String category, String searchText) {
         try {
+            List<String> unavailableCategories = List.of();
             List<?> results = switch (category.toLowerCase()) {
                 case "anime" -> applicationController.searchAnime(searchText);
                 case "movie" -> applicationController.searchMovies(searchText);
                 case "tvseries" -> applicationController.searchTvSeries(searchText);
+                case "all" -> {
+                    UnifiedSearchResult unified = applicationController.searchAll(searchText);
+                    unavailableCategories = unified.getUnavailableCategories();
+                    yield unified.getResults();
+                }
                 default -> throw new IllegalArgumentException("Unsupported search category: " + category);
             };
 
@@ -148,6 +156,9 @@ public class GraphicControllerCli implements GraphicController {
             } else {
                 StringBuilder sb = new StringBuilder();
                 sb.append("--- Search Results for '").append(searchText).append("' in ").append(category).append(" ---\n");
+                if (!unavailableCategories.isEmpty()) {
+                    sb.append("  (Partial results, unavailable: ").append(String.join(", ", unavailableCategories)).append(")\n");
+                }
                 for (Object item : results) {
                     switch (item) {
                         case AnimeModel anime -> sb.append("  ID Anime: ").append(anime.getId())
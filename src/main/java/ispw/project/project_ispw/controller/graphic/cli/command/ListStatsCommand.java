@@ -1,18 +1,13 @@
 package ispw.project.project_ispw.controller.graphic.cli.command;
 
-import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
-import ispw.project.project_ispw.bean.MovieBean;
-import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.bean.ListStats;
 import ispw.project.project_ispw.controller.graphic.cli.GraphicControllerCli;
 import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.exception.ExceptionUser;
 
-import java.util.List;
-
 public class ListStatsCommand implements CliCommand {
 
-    private static final String MINUTES = " minutes)";
     private static final String MINUTES_PERIOD = " minutes.\n\n";
 
     @Override
@@ -37,18 +32,14 @@ public class ListStatsCommand implements CliCommand {
         StringBuilder sb = new StringBuilder();
         sb.append("--- Statistics for List '").append(listBean.getName()).append("' (ID: ").append(listId).append(") ---\n\n");
 
-        int totalMinutes = 0;
-
         try {
-            List<MovieBean> movies = context.getApplicationController().getMoviesInList(listBean);
-            List<TvSeriesBean> tvSeries = context.getApplicationController().getTvSeriesInList(listBean);
-            List<AnimeBean> anime = context.getApplicationController().getAnimeInList(listBean);
+            ListStats stats = context.getApplicationController().getListStats(listBean);
 
-            totalMinutes += appendMovieStats(sb, movies);
-            totalMinutes += appendTvSeriesStats(sb, tvSeries);
-            totalMinutes += appendAnimeStats(sb, anime);
+            appendCategoryStats(sb, "Movies", "movie", stats.getMovieCount(), stats.getMovieMinutes());
+            appendCategoryStats(sb, "TV Series", "TV series", stats.getTvSeriesCount(), stats.getTvSeriesMinutes());
+            appendCategoryStats(sb, "Anime", "anime", stats.getAnimeCount(), stats.getAnimeMinutes());
 
-            sb.append("Overall Total Runtime for list '").append(listBean.getName()).append("': ").append(totalMinutes).append(" minutes.\n");
+            sb.append("Overall Total Runtime for list '").append(listBean.getName()).append("': ").append(stats.getTotalMinutes()).append(" minutes.\n");
 
         } catch (ExceptionApplication e) {
             return "Error retrieving list statistics: " + e.getMessage();
@@ -58,59 +49,13 @@ public class ListStatsCommand implements CliCommand {
         return sb.toString();
     }
 
-    private int appendMovieStats(StringBuilder sb, List<MovieBean> movieList) {
-        int movieRuntime = 0;
-        if (!movieList.isEmpty()) {
-            sb.append("--- Movies ---\n");
-            for (MovieBean movie : movieList) {
-                sb.append("  - ").append(movie.getTitle()).append(" (").append(movie.getRuntime()).append(MINUTES).append("\n");
-                movieRuntime += movie.getRuntime();
-            }
-            sb.append("  Total movie runtime: ").append(movieRuntime).append(MINUTES_PERIOD);
-        } else {
-            sb.append("--- No Movies in this list ---\n\n");
-        }
-        return movieRuntime;
-    }
-
-    private int appendTvSeriesStats(StringBuilder sb, List<TvSeriesBean> tvSeriesList) {
-        int tvSeriesRuntime = 0;
-        if (!tvSeriesList.isEmpty()) {
-            sb.append("--- TV Series ---\n");
-            for (TvSeriesBean series : tvSeriesList) {
-                int episodeDuration = series.getEpisodeRuntime();
-                int seriesTotalRuntime = episodeDuration * series.getNumberOfEpisodes();
-
-                sb.append("  - ").append(series.getName()).append(" (")
-                        .append(episodeDuration).append(" min/ep, ")
-                        .append(series.getNumberOfEpisodes()).append(" episodes, total ")
-                        .append(seriesTotalRuntime).append(MINUTES).append("\n");
-                tvSeriesRuntime += seriesTotalRuntime;
-            }
-            sb.append("  Total TV series runtime: ").append(tvSeriesRuntime).append(MINUTES_PERIOD);
-        } else {
-            sb.append("--- No TV Series in this list ---\n\n");
-        }
-        return tvSeriesRuntime;
-    }
-
-    private int appendAnimeStats(StringBuilder sb, List<AnimeBean> animeList) {
-        int animeRuntime = 0;
-        if (!animeList.isEmpty()) {
-            sb.append("--- Anime ---\n");
-            for (AnimeBean anime : animeList) {
-                int totalAnimeRuntime = anime.getDuration() * anime.getEpisodes();
-
-                sb.append("  - ").append(anime.getTitle()).append(" (")
-                        .append(anime.getDuration()).append(" min/ep, ")
-                        .append(anime.getEpisodes()).append(" episodes, total ")
-                        .append(totalAnimeRuntime).append(MINUTES).append("\n");
-                animeRuntime += totalAnimeRuntime;
-            }
-            sb.append("  Total anime runtime: ").append(animeRuntime).append(MINUTES_PERIOD);
+    private void appendCategoryStats(StringBuilder sb, String heading, String label, int count, long minutes) {
+        if (count > 0) {
+            sb.append("--- ").append(heading).append(" ---\n");
+            sb.append("  Items: ").append(count).append("\n");
+            sb.append("  Total ").append(label).append(" runtime: ").append(minutes).append(MINUTES_PERIOD);
         } else {
-            sb.append("--- No Anime in this list ---\n\n");
+            sb.append("--- No ").append(heading).append(" in this list ---\n\n");
         }
-        return animeRuntime;
     }
 }
\ No newline at end of file
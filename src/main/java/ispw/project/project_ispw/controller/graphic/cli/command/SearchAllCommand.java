@@ -0,0 +1,16 @@
+package ispw.project.project_ispw.controller.graphic.cli.command;
+
+import ispw.project.project_ispw.controller.graphic.cli.GraphicControllerCli;
+import ispw.project.project_ispw.exception.ExceptionApplication;
+
+public class SearchAllCommand implements CliCommand {
+    @Override
+    public String execute(GraphicControllerCli context, String args) throws ExceptionApplication {
+        if (args.isEmpty()) {
+            return "Usage: searchall <query>";
+        }
+
+        // Movies, TV series and anime are searched in parallel and merged into one ranked list
+        return context.performCliSearchAndDisplay("all", args);
+    }
+}
\ No newline at end of file
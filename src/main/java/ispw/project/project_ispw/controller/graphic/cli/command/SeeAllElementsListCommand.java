@@ -2,6 +2,7 @@ package ispw.project.project_ispw.controller.graphic.cli.command;
 
 import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
 import ispw.project.project_ispw.bean.MovieBean;
 import ispw.project.project_ispw.bean.TvSeriesBean;
 import ispw.project.project_ispw.controller.graphic.cli.GraphicControllerCli;
@@ -35,9 +36,10 @@ public class SeeAllElementsListCommand implements CliCommand {
         sb.append("--- Elements in List '").append(listBean.getName()).append("' (ID: ").append(listId).append(") ---\n");
 
         try {
-            List<MovieBean> movies = context.getApplicationController().getMoviesInList(listBean);
-            List<TvSeriesBean> tvSeries = context.getApplicationController().getTvSeriesInList(listBean);
-            List<AnimeBean> anime = context.getApplicationController().getAnimeInList(listBean);
+            ListContents contents = context.getApplicationController().getListContents(listBean);
+            List<MovieBean> movies = contents.getMovies();
+            List<TvSeriesBean> tvSeries = contents.getTvSeries();
+            List<AnimeBean> anime = contents.getAnime();
 
             if (movies.isEmpty() && tvSeries.isEmpty() && anime.isEmpty()) {
                 sb.append("  (This list is empty.)\n");
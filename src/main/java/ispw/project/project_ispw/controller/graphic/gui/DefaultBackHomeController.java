@@ -73,7 +73,7 @@ public class DefaultBackHomeController implements NavigableController {
     }
 
     private void setupCategoryComboBox() {
-        categoryComboBox.setItems(FXCollections.observableArrayList("Anime", "Movie", "TvSeries"));
+        categoryComboBox.setItems(FXCollections.observableArrayList("Anime", "Movie", "TvSeries", "All"));
         categoryComboBox.getSelectionModel().selectFirst();
     }
 
@@ -48,7 +48,7 @@ public class DefaultController implements NavigableController {
 
     private void setupCategoryComboBox() {
         if (categoryComboBox != null) {
-            categoryComboBox.setItems(FXCollections.observableArrayList("Anime", "Movie", "TvSeries"));
+            categoryComboBox.setItems(FXCollections.observableArrayList("Anime", "Movie", "TvSeries", "All"));
             categoryComboBox.getSelectionModel().selectFirst();
         }
     }
@@ -30,6 +30,7 @@ public class HomeController implements NavigableController, UserAwareController
     private static final Logger LOGGER = Logger.getLogger(HomeController.class.getName());
     private static final String SCREEN_LOGIN = "logIn";
     private static final String SYSTEM_ERROR_TITLE = "System Error";
+    private static final int LISTS_PAGE_SIZE = 20;
     private ChangeListener<Boolean> loggedInListener;
 
     @FXML
@@ -41,10 +42,14 @@ public class HomeController implements NavigableController, UserAwareController
     @FXML
     private Button createButton;
 
+    @FXML
+    private Button loadMoreButton;
+
     private final ObservableList<ListModel> items = FXCollections.observableArrayList();
 
     private GraphicControllerGui graphicControllerGui;
     private UserModel userModel;
+    private int lastLoadedListId;
 
     @FXML
     private HBox headerInclude;
@@ -76,6 +81,9 @@ public class HomeController implements NavigableController, UserAwareController
         if (createButton != null) {
             createButton.setOnAction(event -> handleCreateButton());
         }
+        if (loadMoreButton != null) {
+            loadMoreButton.setOnAction(event -> handleLoadMoreButton());
+        }
     }
 
     @Override
@@ -99,6 +107,7 @@ public class HomeController implements NavigableController, UserAwareController
                 } else {
                     LOGGER.log(Level.INFO, "HomeController Listener: User is NOT logged in, clearing lists.");
                     items.clear();
+                    setLoadMoreVisible(false);
                 }
             };
             this.userModel.loggedInProperty().addListener(loggedInListener);
@@ -110,25 +119,51 @@ public class HomeController implements NavigableController, UserAwareController
         } else {
             LOGGER.log(Level.INFO, "HomeController.setUserModel(): Initial check: User IS NOT logged in. Clearing lists. No alert/redirect.");
             items.clear();
+            setLoadMoreVisible(false);
         }
     }
 
     private void loadUserLists() {
         items.clear();
+        lastLoadedListId = 0;
+        setLoadMoreVisible(false);
 
         if (userModel == null || !userModel.loggedInProperty().get() || userModel.currentUserProperty().get() == null) {
             LOGGER.log(Level.WARNING, "loadUserLists: User not logged in, clearing lists.");
             return;
         }
 
+        loadNextPage();
+    }
+
+    @FXML
+    private void handleLoadMoreButton() {
+        if (userModel == null || !userModel.loggedInProperty().get() || userModel.currentUserProperty().get() == null) {
+            showAlert(Alert.AlertType.ERROR, "Error Log", "You must be logged in to view lists.");
+            graphicControllerGui.setScreen(SCREEN_LOGIN);
+            return;
+        }
+        loadNextPage();
+    }
+
+    private void loadNextPage() {
         try {
             UserBean currentUser = userModel.currentUserProperty().get();
-            List<ListBean> lists = graphicControllerGui.getApplicationController().getListsForUser(currentUser);
+            // One extra row tells whether another page exists without a second round trip.
+            List<ListBean> lists = graphicControllerGui.getApplicationController()
+                    .getListsPageForUser(currentUser, lastLoadedListId, LISTS_PAGE_SIZE + 1);
+
+            boolean hasMore = lists.size() > LISTS_PAGE_SIZE;
+            List<ListBean> page = hasMore ? lists.subList(0, LISTS_PAGE_SIZE) : lists;
+            if (!page.isEmpty()) {
+                lastLoadedListId = page.get(page.size() - 1).getId();
+            }
 
-            items.setAll(lists.stream()
+            items.addAll(page.stream()
                     .map(ListModel::new)
                     .toList());
-            LOGGER.log(Level.INFO, "loadUserLists: Successfully loaded {0} lists.", items.size());
+            setLoadMoreVisible(hasMore);
+            LOGGER.log(Level.INFO, "loadNextPage: Loaded {0} lists, {1} shown.", new Object[]{page.size(), items.size()});
         } catch (ExceptionApplication e) {
             LOGGER.log(Level.SEVERE, "Error loading lists: {0}", e.getMessage());
             showAlert(Alert.AlertType.ERROR, "Error Loading Lists", e.getMessage());
@@ -170,6 +205,13 @@ public class HomeController implements NavigableController, UserAwareController
         loadUserLists();
     }
 
+    private void setLoadMoreVisible(boolean visible) {
+        if (loadMoreButton != null) {
+            loadMoreButton.setVisible(visible);
+            loadMoreButton.setManaged(visible);
+        }
+    }
+
     private class CustomListCell extends ListCell<ListModel> {
         private final HBox hbox;
         private final Text text;
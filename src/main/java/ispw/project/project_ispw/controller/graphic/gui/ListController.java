@@ -2,6 +2,7 @@ package ispw.project.project_ispw.controller.graphic.gui;
 
 import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
 import ispw.project.project_ispw.bean.MovieBean;
 import ispw.project.project_ispw.bean.TvSeriesBean;
 import ispw.project.project_ispw.exception.ExceptionApplication;
@@ -181,9 +182,10 @@ public class ListController implements NavigableController, UserAwareController
         try {
             ListBean underlyingListBean = selectedListModel.getListBean();
 
-            List<MovieBean> movies = graphicControllerGui.getApplicationController().getMoviesInList(underlyingListBean);
-            List<TvSeriesBean> tvSeries = graphicControllerGui.getApplicationController().getTvSeriesInList(underlyingListBean);
-            List<AnimeBean> anime = graphicControllerGui.getApplicationController().getAnimeInList(underlyingListBean);
+            ListContents contents = graphicControllerGui.getApplicationController().getListContents(underlyingListBean);
+            List<MovieBean> movies = contents.getMovies();
+            List<TvSeriesBean> tvSeries = contents.getTvSeries();
+            List<AnimeBean> anime = contents.getAnime();
 
             for (MovieBean movie : movies) {
                 String key = "Movie: " + movie.getTitle() + ID_STRING_SUFFIX + movie.getIdMovieTmdb() + ")";
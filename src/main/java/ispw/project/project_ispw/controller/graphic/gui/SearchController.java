@@ -4,6 +4,7 @@ import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.model.AnimeModel;
 import ispw.project.project_ispw.model.MovieModel;
 import ispw.project.project_ispw.model.TvSeriesModel;
+import ispw.project.project_ispw.model.UnifiedSearchResult;
 import ispw.project.project_ispw.model.UserModel;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -127,6 +128,14 @@ public class SearchController implements NavigableController, UserAwareControlle
                 case "Anime":
                     results = graphicControllerGui.getApplicationController().searchAnime(currentSearchQuery);
                     break;
+                case "All":
+                    UnifiedSearchResult unified = graphicControllerGui.getApplicationController().searchAll(currentSearchQuery);
+                    results = unified.getResults();
+                    if (unified.isPartial()) {
+                        searchResultsLabel.setText(String.format("Search Results for '%s' in %s (unavailable: %s):",
+                                currentSearchQuery, currentSearchCategory, String.join(", ", unified.getUnavailableCategories())));
+                    }
+                    break;
                 default:
                     throw new ExceptionApplication("Invalid search category: " + currentSearchCategory);
             }
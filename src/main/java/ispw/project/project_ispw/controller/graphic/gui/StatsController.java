@@ -1,9 +1,7 @@
 package ispw.project.project_ispw.controller.graphic.gui;
 
-import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
-import ispw.project.project_ispw.bean.MovieBean;
-import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.bean.ListStats;
 import ispw.project.project_ispw.exception.ExceptionApplication;
 import ispw.project.project_ispw.model.ListModel;
 import ispw.project.project_ispw.model.UserModel;
@@ -13,7 +11,6 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.HBox;
 
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,7 +18,6 @@ public class StatsController implements NavigableController, UserAwareController
 
     private static final Logger LOGGER = Logger.getLogger(StatsController.class.getName());
 
-    private static final String MINUTES = " minutes)\n";
     private static final String MINUTESP = " minutes.\n\n";
     private static final String SYSTEM_ERROR_TITLE = "System Error";
 
@@ -146,19 +142,16 @@ public class StatsController implements NavigableController, UserAwareController
         try {
             ListBean underlyingListBean = selectedListModel.getListBean();
 
-            List<MovieBean> movieList = graphicControllerGui.getApplicationController().getMoviesInList(underlyingListBean);
-            List<TvSeriesBean> tvSeriesList = graphicControllerGui.getApplicationController().getTvSeriesInList(underlyingListBean);
-            List<AnimeBean> animeList = graphicControllerGui.getApplicationController().getAnimeInList(underlyingListBean);
+            ListStats stats = graphicControllerGui.getApplicationController().getListStats(underlyingListBean);
 
             StringBuilder details = new StringBuilder();
             details.append("Details for list '").append(selectedListModel.getName()).append("':\n\n");
 
-            int totalMinutes = 0;
-
-            totalMinutes += appendMovieStats(movieList, details);
-            totalMinutes += appendTvSeriesStats(tvSeriesList, details);
-            totalMinutes += appendAnimeStats(animeList, details);
+            appendCategoryStats(details, "Movies", "movie", stats.getMovieCount(), stats.getMovieMinutes());
+            appendCategoryStats(details, "TV Series", "TV series", stats.getTvSeriesCount(), stats.getTvSeriesMinutes());
+            appendCategoryStats(details, "Anime", "anime", stats.getAnimeCount(), stats.getAnimeMinutes());
 
+            long totalMinutes = stats.getTotalMinutes();
             details.append("\nOverall Total Runtime for list '").append(selectedListModel.getName()).append("': ").append(totalMinutes).append(" minutes.");
             statsTextArea.setText(details.toString());
             LOGGER.log(Level.INFO, "Stats calculated for list ''{0}''. Total minutes: {1}", new Object[]{selectedListModel.getName(), totalMinutes});
@@ -174,60 +167,14 @@ public class StatsController implements NavigableController, UserAwareController
         }
     }
 
-    private int appendMovieStats(List<MovieBean> movieList, StringBuilder details) {
-        int movieRuntime = 0;
-        if (!movieList.isEmpty()) {
-            details.append("--- Movies ---\n");
-            for (MovieBean movie : movieList) {
-                details.append("- ").append(movie.getTitle()).append(" (").append(movie.getRuntime()).append(MINUTES);
-                movieRuntime += movie.getRuntime();
-            }
-            details.append("Total movie runtime: ").append(movieRuntime).append(MINUTESP);
-        } else {
-            details.append("--- No Movies in this list ---\n\n");
-        }
-        return movieRuntime;
-    }
-
-    private int appendTvSeriesStats(List<TvSeriesBean> tvSeriesList, StringBuilder details) {
-        int tvSeriesRuntime = 0;
-        if (!tvSeriesList.isEmpty()) {
-            details.append("--- TV Series ---\n");
-            for (TvSeriesBean tvSeries : tvSeriesList) {
-                int episodeDuration = tvSeries.getEpisodeRuntime();
-                int seriesTotalRuntime = episodeDuration * tvSeries.getNumberOfEpisodes();
-
-                details.append("- ").append(tvSeries.getName()).append(" (")
-                        .append(episodeDuration).append(" min/ep, ")
-                        .append(tvSeries.getNumberOfEpisodes()).append(" episodes, total ")
-                        .append(seriesTotalRuntime).append(MINUTES);
-                tvSeriesRuntime += seriesTotalRuntime;
-            }
-            details.append("Total TV series runtime: ").append(tvSeriesRuntime).append(MINUTESP);
-        } else {
-            details.append("--- No TV Series in this list ---\n\n");
-        }
-        return tvSeriesRuntime;
-    }
-
-    private int appendAnimeStats(List<AnimeBean> animeList, StringBuilder details) {
-        int animeRuntime = 0;
-        if (!animeList.isEmpty()) {
-            details.append("--- Anime ---\n");
-            for (AnimeBean anime : animeList) {
-                int totalAnimeRuntime = anime.getDuration() * anime.getEpisodes();
-
-                details.append("- ").append(anime.getTitle()).append(" (")
-                        .append(anime.getDuration()).append(" min/ep, ")
-                        .append(anime.getEpisodes()).append(" episodes, total ")
-                        .append(totalAnimeRuntime).append(MINUTES);
-                animeRuntime += totalAnimeRuntime;
-            }
-            details.append("Total anime runtime: ").append(animeRuntime).append(MINUTESP);
+    private void appendCategoryStats(StringBuilder details, String heading, String label, int count, long minutes) {
+        if (count > 0) {
+            details.append("--- ").append(heading).append(" ---\n");
+            details.append("Items: ").append(count).append("\n");
+            details.append("Total ").append(label).append(" runtime: ").append(minutes).append(MINUTESP);
         } else {
-            details.append("--- No Anime in this list ---\n\n");
+            details.append("--- No ").append(heading).append(" in this list ---\n\n");
         }
-        return animeRuntime;
     }
 
     private void showAlert(Alert.AlertType alertType, String title, String message) {
@@ -11,6 +11,8 @@ public interface AnimeDao {
 
     void saveAnime(AnimeBean anime) throws ExceptionDao;
 
+    void upsertAnime(AnimeBean anime) throws ExceptionDao;
+
     List<AnimeBean> retrieveAllAnime() throws ExceptionDao;
 }
 
@@ -0,0 +1,11 @@
+package ispw.project.project_ispw.dao;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+public interface ListContentsDao {
+    ListContents getListContents(ListBean list) throws ExceptionDao;
+
+    void deleteListWithContents(ListBean list) throws ExceptionDao;
+}
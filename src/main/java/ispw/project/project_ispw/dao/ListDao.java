@@ -12,9 +12,19 @@ public interface ListDao {
 
     ListBean retrieveById(int id) throws ExceptionDao;
 
+    /**
+     * Stores a new list. When the bean's id is 0 the DAO assigns the next id and sets it on the bean.
+     */
     void saveList(ListBean list, UserBean user) throws ExceptionDao;
 
     void deleteList(ListBean list) throws ExceptionDao;
 
     List<ListBean> retrieveAllListsOfUsername(String username) throws ExceptionDao;
+
+    /**
+     * Returns at most {@code pageSize} lists of the user whose id is greater than {@code afterListId}, in id order.
+     * Pass 0 for the first page and the id of the last list received for the following ones.
+     * Every implementation throws {@link IllegalArgumentException} when {@code pageSize} is not positive.
+     */
+    List<ListBean> retrieveListsOfUsername(String username, int afterListId, int pageSize) throws ExceptionDao;
 }
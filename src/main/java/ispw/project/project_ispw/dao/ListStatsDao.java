@@ -0,0 +1,9 @@
+package ispw.project.project_ispw.dao;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+public interface ListStatsDao {
+    ListStats getListStats(ListBean list) throws ExceptionDao;
+}
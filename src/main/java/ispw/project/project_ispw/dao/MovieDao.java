@@ -11,5 +11,7 @@ public interface MovieDao {
 
     void saveMovie(MovieBean movie) throws ExceptionDao;
 
+    void upsertMovie(MovieBean movie) throws ExceptionDao;
+
     List<MovieBean> retrieveAllMovies() throws ExceptionDao;
 }
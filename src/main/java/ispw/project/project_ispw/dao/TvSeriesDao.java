@@ -11,5 +11,7 @@ public interface TvSeriesDao {
 
     boolean saveTvSeries(TvSeriesBean tvSeries) throws ExceptionDao;
 
+    void upsertTvSeries(TvSeriesBean tvSeries) throws ExceptionDao;
+
     List<TvSeriesBean> retrieveAllTvSeries() throws ExceptionDao;
 }
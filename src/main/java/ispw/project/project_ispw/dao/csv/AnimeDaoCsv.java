@@ -1,9 +1,9 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.cache.EntityCache;
 import ispw.project.project_ispw.dao.AnimeDao;
 import ispw.project.project_ispw.exception.ExceptionDao;
 import ispw.project.project_ispw.exception.CsvDaoException;
@@ -14,14 +14,14 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
 
 public class AnimeDaoCsv implements AnimeDao {
 
     private static final String CSV_FILE_NAME;
-    private final HashMap<Integer, AnimeBean> localCache;
+    private static final CsvOffsetIndex OFFSET_INDEX;
+    private final EntityCache<Integer, AnimeBean> localCache;
 
     static {
         CSV_FILE_NAME = loadCsvFileName();
@@ -33,10 +33,11 @@ public class AnimeDaoCsv implements AnimeDao {
 
             throw new CsvDaoException("Initialization failed: Could not create CSV file at " + CSV_FILE_NAME, e);
         }
+        OFFSET_INDEX = new CsvOffsetIndex(CSV_FILE_NAME);
     }
 
     public AnimeDaoCsv() {
-        this.localCache = new HashMap<>();
+        this.localCache = new EntityCache<>(CsvConfig.getInt("csv.cache.max.size", 1000));
     }
 
     private static String loadCsvFileName() {
@@ -59,10 +60,9 @@ public class AnimeDaoCsv implements AnimeDao {
 
     @Override
     public AnimeBean retrieveById(int id) throws ExceptionDao {
-        synchronized (localCache) {
-            if (localCache.containsKey(id)) {
-                return localCache.get(id);
-            }
+        AnimeBean cached = localCache.get(id);
+        if (cached != null) {
+            return cached;
         }
 
         AnimeBean anime = null;
@@ -75,77 +75,71 @@ public class AnimeDaoCsv implements AnimeDao {
         }
 
         if (anime != null) {
-            synchronized (localCache) {
-                localCache.put(id, anime);
-            }
+            localCache.put(id, anime);
         }
         return anime;
     }
 
     private static AnimeBean retrieveByIdFromFile(int id) throws IOException, NumberFormatException {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordAnime;
-            while ((recordAnime = csvReader.readNext()) != null) {
-                if (recordAnime.length < 4) {
-                    continue;
-                }
-                int currentId = Integer.parseInt(recordAnime[0]);
-                if (currentId == id) {
-                    return new AnimeBean(currentId, Integer.parseInt(recordAnime[2]), Integer.parseInt(recordAnime[1]), recordAnime[3]);
-                }
-            }
+        String[] recordAnime;
+        try {
+            recordAnime = OFFSET_INDEX.retrieve(String.valueOf(id));
         } catch (CsvValidationException e) {
             throw new CsvDaoException("CSV data validation error during retrieval by ID.", e);
         }
-        return null;
+        if (recordAnime == null || recordAnime.length < 4) {
+            return null;
+        }
+        return new AnimeBean(Integer.parseInt(recordAnime[0]), Integer.parseInt(recordAnime[2]), Integer.parseInt(recordAnime[1]), recordAnime[3]);
     }
 
     @Override
     public void saveAnime(AnimeBean anime) throws ExceptionDao {
         int animeId = anime.getIdAnimeTmdb();
 
-        synchronized (localCache) {
-            if (localCache.containsKey(animeId)) {
-                throw new ExceptionDao("Duplicated Anime ID already in cache: " + animeId);
-            }
+        if (localCache.containsKey(animeId)) {
+            throw new ExceptionDao("Duplicated Anime ID already in cache: " + animeId);
         }
 
-        AnimeBean existingAnime = null;
         try {
-            existingAnime = retrieveByIdFromFile(animeId);
-        } catch (IOException | NumberFormatException e) {
-            throw new ExceptionDao("Failed to check existing anime for ID: " + animeId + ". Data corruption or I/O error.", e);
-        } catch (CsvDaoException e) {
-            throw new ExceptionDao("CSV data validation error while checking existing anime for ID: " + animeId, e);
+            if (!saveAnimeToFile(anime)) {
+                throw new ExceptionDao("Duplicated Anime ID already exists in CSV file: " + animeId);
+            }
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to save anime to CSV for ID: " + animeId + ". I/O error.", e);
         }
 
-        if (existingAnime != null) {
+        localCache.put(animeId, anime);
+    }
 
-            throw new ExceptionDao("Duplicated Anime ID already exists in CSV file: " + animeId);
+    @Override
+    public void upsertAnime(AnimeBean anime) throws ExceptionDao {
+        int id = anime.getIdAnimeTmdb();
+        if (localCache.containsKey(id)) {
+            return;
         }
 
         try {
-            saveAnimeToFile(anime);
+            if (OFFSET_INDEX.appendIfAbsent(String.valueOf(id), recordOf(anime))) {
+                localCache.put(id, anime);
+            }
         } catch (IOException e) {
-            throw new ExceptionDao("Failed to save anime to CSV for ID: " + animeId + ". I/O error.", e);
-        }
-
-        synchronized (localCache) {
-            localCache.put(animeId, anime);
+            throw new ExceptionDao("Failed to upsert anime to CSV for ID: " + id + ". I/O error.", e);
         }
     }
 
-    private static void saveAnimeToFile(AnimeBean anime) throws IOException {
+    private static boolean saveAnimeToFile(AnimeBean anime) throws IOException {
+        String[] recordAnime = recordOf(anime);
+        return OFFSET_INDEX.appendIfAbsent(recordAnime[0], recordAnime);
+    }
 
-        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), java.nio.file.StandardOpenOption.APPEND))) {
-            String[] recordAnime = {
-                    String.valueOf(anime.getIdAnimeTmdb()),
-                    String.valueOf(anime.getEpisodes()),
-                    String.valueOf(anime.getDuration()),
-                    anime.getTitle()
-            };
-            csvWriter.writeNext(recordAnime);
-        }
+    private static String[] recordOf(AnimeBean anime) {
+        return new String[]{
+                String.valueOf(anime.getIdAnimeTmdb()),
+                String.valueOf(anime.getEpisodes()),
+                String.valueOf(anime.getDuration()),
+                anime.getTitle()
+        };
     }
 
     @Override
@@ -160,17 +154,20 @@ public class AnimeDaoCsv implements AnimeDao {
             throw new ExceptionDao("CSV data validation error while retrieving all animes.", e);
         }
 
-        synchronized (localCache) {
-            localCache.clear();
-            for (AnimeBean anime : animeList) {
-                localCache.put(anime.getIdAnimeTmdb(), anime);
-            }
+        localCache.clear();
+        for (AnimeBean anime : animeList) {
+            localCache.put(anime.getIdAnimeTmdb(), anime);
         }
 
         return Collections.unmodifiableList(animeList);
     }
 
     private static List<AnimeBean> retrieveAllAnimeFromFile() throws IOException, NumberFormatException {
+        CsvWriteBehindQueue.getInstance().flush();
+        return CsvFileLocks.withReadLock(Paths.get(CSV_FILE_NAME), AnimeDaoCsv::readAllAnime);
+    }
+
+    private static List<AnimeBean> readAllAnime() throws IOException, NumberFormatException {
         List<AnimeBean> animeList = new ArrayList<>();
         try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
             String[] recordAnime;
@@ -0,0 +1,64 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rewrites append-only CSV files in the background once tombstones make up too large a share of their records.
+ */
+public final class CsvCompactor {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvCompactor.class.getName());
+
+    private static final double TOMBSTONE_RATIO = CsvConfig.getDouble("csv.compaction.tombstone.ratio", 0.3);
+    private static final int MIN_TOMBSTONES = CsvConfig.getInt("csv.compaction.min.tombstones", 32);
+
+    private static final Set<Compactable> PENDING = ConcurrentHashMap.newKeySet();
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public interface Compactable {
+        long recordCount();
+
+        long tombstoneCount();
+
+        void compact() throws IOException, CsvValidationException;
+    }
+
+    private CsvCompactor() {
+        //Utility class
+    }
+
+    public static boolean needsCompaction(Compactable target) {
+        long tombstones = target.tombstoneCount();
+        return tombstones >= MIN_TOMBSTONES && tombstones >= TOMBSTONE_RATIO * target.recordCount();
+    }
+
+    public static void compactIfNeeded(Compactable target) {
+        if (!needsCompaction(target) || !PENDING.add(target)) {
+            return;
+        }
+        EXECUTOR.execute(() -> {
+            try {
+                if (needsCompaction(target)) {
+                    target.compact();
+                }
+            } catch (IOException | CsvValidationException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Background compaction of {0} failed. Error: {1}", new Object[]{target, e.getMessage()});
+            } finally {
+                PENDING.remove(target);
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tuning settings for the CSV persistence layer, read once from csv.properties.
+ */
+public final class CsvConfig {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvConfig.class.getName());
+
+    private static final Properties PROPERTIES = new Properties();
+
+    static {
+        try (InputStream input = CsvConfig.class.getClassLoader().getResourceAsStream("csv.properties")) {
+            if (input != null) {
+                PROPERTIES.load(input);
+            } else {
+                LOGGER.log(Level.WARNING, "csv.properties file not found. Using default CSV settings.");
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to load csv.properties. Using default CSV settings. Error: {0}", e.getMessage());
+        }
+    }
+
+    private CsvConfig() {
+        //Utility class
+    }
+
+    public static String getString(String key, String defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid integer for {0} in csv.properties: {1}. Using default {2}.", new Object[]{key, value, defaultValue});
+            return defaultValue;
+        }
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid number for {0} in csv.properties: {1}. Using default {2}.", new Object[]{key, value, defaultValue});
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,85 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Striped read/write locks keyed by CSV path. Scans take the read lock and run in parallel; appends and
+ * rewrites take the write lock. When csv.lock.cross.process is enabled, writers also hold an exclusive
+ * {@link FileLock} on a "&lt;file&gt;.lock" sidecar so that other processes sharing the files are excluded too
+ * (readers need no OS lock because rewrites are published with an atomic rename).
+ * Actions must not acquire the lock of another CSV file while running.
+ */
+public final class CsvFileLocks {
+
+    private static final String LOCK_SUFFIX = ".lock";
+
+    private static final boolean CROSS_PROCESS = CsvConfig.getBoolean("csv.lock.cross.process", false);
+
+    private static final ReadWriteLock[] STRIPES = new ReadWriteLock[Math.max(1, CsvConfig.getInt("csv.lock.stripes", 32))];
+
+    static {
+        for (int i = 0; i < STRIPES.length; i++) {
+            STRIPES[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface FileAction<T, E extends Exception> {
+        T run() throws IOException, E;
+    }
+
+    @FunctionalInterface
+    public interface VoidFileAction<E extends Exception> {
+        void run() throws IOException, E;
+    }
+
+    private CsvFileLocks() {
+        //Utility class
+    }
+
+    public static <T, E extends Exception> T withReadLock(Path path, FileAction<T, E> action) throws IOException, E {
+        Lock lock = stripeFor(path).readLock();
+        lock.lock();
+        try {
+            return action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static <T, E extends Exception> T withWriteLock(Path path, FileAction<T, E> action) throws IOException, E {
+        Lock lock = stripeFor(path).writeLock();
+        lock.lock();
+        try {
+            if (!CROSS_PROCESS) {
+                return action.run();
+            }
+            try (FileChannel channel = FileChannel.open(Paths.get(path + LOCK_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return action.run();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static <E extends Exception> void runWithWriteLock(Path path, VoidFileAction<E> action) throws IOException, E {
+        withWriteLock(path, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static ReadWriteLock stripeFor(Path path) {
+        int hash = path.toAbsolutePath().normalize().hashCode();
+        return STRIPES[Math.floorMod(hash ^ (hash >>> 16), STRIPES.length)];
+    }
+}
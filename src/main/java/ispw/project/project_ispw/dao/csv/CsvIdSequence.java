@@ -0,0 +1,91 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Monotonic id generator backed by a high-water mark persisted next to the data file.
+ * Ids are reserved in blocks, so the mark is checkpointed once per block instead of once per id;
+ * after a restart the sequence resumes above the last reserved block and never hands out an id twice.
+ */
+public class CsvIdSequence {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvIdSequence.class.getName());
+
+    private final Path path;
+    private final int blockSize;
+    private final AtomicInteger current;
+
+    private volatile int reservedUpTo;
+
+    public CsvIdSequence(String fileName, int floor, int blockSize) {
+        this.path = Paths.get(fileName);
+        this.blockSize = Math.max(1, blockSize);
+        this.reservedUpTo = readHighWaterMark();
+        this.current = new AtomicInteger(Math.max(reservedUpTo, floor));
+    }
+
+    public int next() throws IOException {
+        int id = current.incrementAndGet();
+        if (id > reservedUpTo) {
+            reserve(id);
+        }
+        return id;
+    }
+
+    public void advanceTo(int id) throws IOException {
+        current.accumulateAndGet(id, Math::max);
+        if (id > reservedUpTo) {
+            reserve(id);
+        }
+    }
+
+    private synchronized void reserve(int id) throws IOException {
+        if (id <= reservedUpTo) {
+            return;
+        }
+        int highWaterMark = id + blockSize - 1;
+        checkpoint(highWaterMark);
+        reservedUpTo = highWaterMark;
+    }
+
+    private void checkpoint(int highWaterMark) throws IOException {
+        Path tempPath = Paths.get(path + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(String.valueOf(highWaterMark).getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private int readHighWaterMark() {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(Files.readString(path, StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Unreadable id sequence file {0}. Falling back to the highest stored id. Error: {1}",
+                    new Object[]{path, e.getMessage()});
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import ispw.project.project_ispw.exception.CsvDaoException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only CSV file of (list id, item id) pairs. Removals are written as tombstones and replayed by readers,
+ * so no operation rewrites the file; {@link CsvCompactor} drops dead records once tombstones pile up.
+ * A {@link CsvMembershipFilter} per list answers most negative lookups without touching the file.
+ */
+public class CsvMembershipFile implements CsvCompactor.Compactable, CsvWriteBehindQueue.Target {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvMembershipFile.class.getName());
+
+    static final int KEY_COLUMNS = 2;
+
+    private final Path path;
+    private final CsvMembershipScanner scanner;
+    private final CsvWriteBehindQueue writeBehindQueue = CsvWriteBehindQueue.getInstance();
+    private final List<String[]> pendingRecords = new ArrayList<>();
+    private final Object appendLock = new Object();
+    private final Map<Integer, CsvMembershipFilter> filters = new ConcurrentHashMap<>();
+
+    private long filterVersion;
+
+    private long recordCount;
+    private long tombstoneCount;
+
+    public CsvMembershipFile(String fileName, CsvMembershipScanner scanner) {
+        this.path = Paths.get(fileName);
+        this.scanner = scanner;
+        try {
+            if (!Files.exists(path)) {
+                Files.createFile(path);
+            }
+            countRecords();
+        } catch (IOException | CsvValidationException e) {
+            throw new CsvDaoException("Initialization failed: Could not read membership file " + fileName, e);
+        }
+    }
+
+    public void add(int listId, int itemId) throws IOException {
+        append(listId, Collections.singletonList(new String[]{String.valueOf(listId), String.valueOf(itemId)}));
+    }
+
+    public void addAll(int listId, Collection<Integer> itemIds) throws IOException {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        List<String[]> records = new ArrayList<>(itemIds.size());
+        for (int itemId : itemIds) {
+            records.add(new String[]{String.valueOf(listId), String.valueOf(itemId)});
+        }
+        append(listId, records);
+    }
+
+    public void remove(int listId, int itemId) throws IOException {
+        append(listId, Collections.singletonList(CsvTombstone.of(String.valueOf(listId), String.valueOf(itemId))));
+    }
+
+    public void removeAll(int listId) throws IOException {
+        append(listId, Collections.singletonList(CsvTombstone.of(String.valueOf(listId), CsvTombstone.ALL_ITEMS)));
+    }
+
+    public boolean contains(int listId, int itemId) throws IOException, CsvValidationException {
+        CsvMembershipFilter filter = filters.get(listId);
+        if (filter == null || !filter.mightContain(itemId)) {
+            return false;
+        }
+        if (filter.isExact()) {
+            return true;
+        }
+
+        long versionBeforeScan = currentFilterVersion();
+        Set<Integer> liveItems = liveItemIds(listId);
+        boolean present = liveItems.contains(itemId);
+        if (!present) {
+            // False positive: removed items linger in a Bloom filter, so rebuild it from what is actually live.
+            replaceFilter(listId, liveItems, versionBeforeScan);
+        }
+        return present;
+    }
+
+    public List<Integer> itemIdsOf(int listId) throws IOException, CsvValidationException {
+        CsvMembershipFilter filter = filters.get(listId);
+        if (filter == null || filter.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(liveItemIds(listId));
+    }
+
+    @Override
+    public synchronized void writeBatch(List<String[]> records) throws IOException {
+        writeRecords(records);
+
+        // Only written records leave the pending view; failed ones stay readable until the queue retries them.
+        withdrawPending(records);
+    }
+
+    @Override
+    public synchronized long recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public synchronized long tombstoneCount() {
+        return tombstoneCount;
+    }
+
+    @Override
+    public synchronized void compact() throws IOException, CsvValidationException {
+        long liveRecords = CsvFileLocks.withWriteLock(path, this::rewriteLiveRecords);
+
+        LOGGER.log(Level.INFO, "Compacted {0}: {1} records ({2} tombstones) reduced to {3}.",
+                new Object[]{path, recordCount, tombstoneCount, liveRecords});
+        recordCount = liveRecords;
+        tombstoneCount = 0;
+    }
+
+    private long rewriteLiveRecords() throws IOException, CsvValidationException {
+        Map<String, Set<String>> liveItemsByList = new LinkedHashMap<>();
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(path))) {
+            String[] recordCsv;
+            while ((recordCsv = csvReader.readNext()) != null) {
+                if (recordCsv.length < KEY_COLUMNS) {
+                    continue;
+                }
+                Set<String> liveItems = liveItemsByList.computeIfAbsent(recordCsv[0], key -> new LinkedHashSet<>());
+                applyRecord(recordCsv, liveItems);
+            }
+        }
+
+        Path tempPath = Paths.get(path + ".tmp");
+        long liveRecords = 0;
+        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(tempPath))) {
+            for (Map.Entry<String, Set<String>> entry : liveItemsByList.entrySet()) {
+                for (String itemKey : entry.getValue()) {
+                    csvWriter.writeNext(new String[]{entry.getKey(), itemKey});
+                    liveRecords++;
+                }
+            }
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        return liveRecords;
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    static void applyRecord(String[] recordCsv, Set<String> liveItems) {
+        if (!CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+            liveItems.add(recordCsv[1]);
+        } else if (CsvTombstone.ALL_ITEMS.equals(recordCsv[1])) {
+            liveItems.clear();
+        } else {
+            liveItems.remove(recordCsv[1]);
+        }
+    }
+
+    private Set<Integer> liveItemIds(int listId) throws IOException, CsvValidationException {
+        String listKey = String.valueOf(listId);
+        List<String[]> pendingForList = new ArrayList<>();
+        Set<Integer> liveItems;
+        // Holding the pending lock across the scan keeps new records out of the queue and written ones in the
+        // pending view, so the file can only gain records that are also in the snapshot. Replaying those again
+        // after the scan is harmless: add, remove and clear are idempotent when repeated in the same order.
+        synchronized (pendingRecords) {
+            for (String[] recordCsv : pendingRecords) {
+                if (recordCsv[0].equals(listKey)) {
+                    pendingForList.add(recordCsv);
+                }
+            }
+            liveItems = CsvFileLocks.withReadLock(path, () -> scanner.liveItemIds(path, listId));
+        }
+        for (String[] recordCsv : pendingForList) {
+            applyPendingRecord(recordCsv, liveItems);
+        }
+        return liveItems;
+    }
+
+    private static void applyPendingRecord(String[] recordCsv, Set<Integer> liveItems) {
+        if (CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS) && CsvTombstone.ALL_ITEMS.equals(recordCsv[1])) {
+            liveItems.clear();
+        } else if (CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+            liveItems.remove(Integer.parseInt(recordCsv[1]));
+        } else {
+            liveItems.add(Integer.parseInt(recordCsv[1]));
+        }
+    }
+
+    private void append(int listId, List<String[]> records) throws IOException {
+        if (!writeBehindQueue.isEnabled()) {
+            synchronized (this) {
+                writeRecords(records);
+                updateFilter(listId, records);
+            }
+            return;
+        }
+        synchronized (appendLock) {
+            synchronized (pendingRecords) {
+                pendingRecords.addAll(records);
+            }
+            int queued = 0;
+            try {
+                for (String[] recordCsv : records) {
+                    writeBehindQueue.enqueue(this, recordCsv);
+                    queued++;
+                }
+            } finally {
+                if (queued < records.size()) {
+                    withdrawPending(records.subList(queued, records.size()));
+                }
+                updateFilter(listId, records.subList(0, queued));
+            }
+        }
+    }
+
+    private void withdrawPending(List<String[]> records) {
+        synchronized (pendingRecords) {
+            Set<String[]> withdrawn = Collections.newSetFromMap(new IdentityHashMap<>());
+            withdrawn.addAll(records);
+            pendingRecords.removeIf(withdrawn::contains);
+        }
+    }
+
+    private void updateFilter(int listId, List<String[]> records) {
+        synchronized (filters) {
+            filterVersion++;
+            for (String[] recordCsv : records) {
+                CsvMembershipFilter filter = filters.computeIfAbsent(listId, key -> CsvMembershipFilter.empty());
+                applyFilterRecord(recordCsv, filter, listId);
+            }
+        }
+    }
+
+    private void applyFilterRecord(String[] recordCsv, CsvMembershipFilter filter, int listId) {
+        if (!CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+            filter.add(Integer.parseInt(recordCsv[1]));
+        } else if (CsvTombstone.ALL_ITEMS.equals(recordCsv[1])) {
+            filters.put(listId, CsvMembershipFilter.empty());
+        } else {
+            filter.remove(Integer.parseInt(recordCsv[1]));
+        }
+    }
+
+    private long currentFilterVersion() {
+        synchronized (filters) {
+            return filterVersion;
+        }
+    }
+
+    private void replaceFilter(int listId, Set<Integer> liveItems, long expectedVersion) {
+        synchronized (filters) {
+            // A mutation that raced with the scan may be missing from liveItems; keep the older, wider filter then.
+            if (filterVersion == expectedVersion) {
+                filters.put(listId, CsvMembershipFilter.of(liveItems));
+            }
+        }
+    }
+
+    private void writeRecords(List<String[]> records) throws IOException {
+        CsvFileLocks.runWithWriteLock(path, () -> {
+            try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(path, StandardOpenOption.APPEND))) {
+                for (String[] recordCsv : records) {
+                    csvWriter.writeNext(recordCsv);
+                }
+            }
+        });
+        for (String[] recordCsv : records) {
+            recordCount++;
+            if (CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+                tombstoneCount++;
+            }
+        }
+        CsvCompactor.compactIfNeeded(this);
+    }
+
+    private void countRecords() throws IOException, CsvValidationException {
+        Map<String, Set<String>> liveItemsByList = new LinkedHashMap<>();
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(path))) {
+            String[] recordCsv;
+            while ((recordCsv = csvReader.readNext()) != null) {
+                recordCount++;
+                if (CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+                    tombstoneCount++;
+                }
+                if (recordCsv.length >= KEY_COLUMNS) {
+                    applyRecord(recordCsv, liveItemsByList.computeIfAbsent(recordCsv[0], key -> new LinkedHashSet<>()));
+                }
+            }
+        }
+        for (Map.Entry<String, Set<String>> entry : liveItemsByList.entrySet()) {
+            try {
+                List<Integer> itemIds = new ArrayList<>();
+                for (String itemKey : entry.getValue()) {
+                    itemIds.add(Integer.parseInt(itemKey));
+                }
+                filters.put(Integer.parseInt(entry.getKey()), CsvMembershipFilter.of(itemIds));
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Skipping malformed membership records of list {0} in {1}",
+                        new Object[]{entry.getKey(), path});
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * In-memory summary of the items of one list. Small lists are tracked exactly; once a list outgrows
+ * csv.membership.filter.exact.limit its items move to a Bloom filter, which can answer "definitely absent"
+ * but only "possibly present", and which cannot forget removed items.
+ */
+public final class CsvMembershipFilter {
+
+    private static final int EXACT_LIMIT = Math.max(1, CsvConfig.getInt("csv.membership.filter.exact.limit", 256));
+    private static final double FALSE_POSITIVE_RATE = CsvConfig.getDouble("csv.membership.filter.fpp", 0.01);
+    private static final int BLOOM_HEADROOM = 4;
+
+    private Set<Integer> exactItems = new HashSet<>();
+    private long[] bits;
+    private int bitCount;
+    private int hashCount;
+
+    private CsvMembershipFilter() {
+    }
+
+    public static CsvMembershipFilter empty() {
+        return new CsvMembershipFilter();
+    }
+
+    public static CsvMembershipFilter of(Collection<Integer> itemIds) {
+        CsvMembershipFilter filter = new CsvMembershipFilter();
+        filter.exactItems.addAll(itemIds);
+        if (filter.exactItems.size() > EXACT_LIMIT) {
+            filter.promoteToBloom();
+        }
+        return filter;
+    }
+
+    public synchronized void add(int itemId) {
+        if (exactItems == null) {
+            setBits(itemId);
+            return;
+        }
+        exactItems.add(itemId);
+        if (exactItems.size() > EXACT_LIMIT) {
+            promoteToBloom();
+        }
+    }
+
+    public synchronized void remove(int itemId) {
+        if (exactItems != null) {
+            exactItems.remove(itemId);
+        }
+    }
+
+    public synchronized boolean mightContain(int itemId) {
+        if (exactItems != null) {
+            return exactItems.contains(itemId);
+        }
+        int h1 = mix(itemId);
+        int h2 = mix(h1 ^ 0x5bd1e995) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized boolean isExact() {
+        return exactItems != null;
+    }
+
+    public synchronized boolean isEmpty() {
+        return exactItems != null && exactItems.isEmpty();
+    }
+
+    private void promoteToBloom() {
+        int expectedItems = exactItems.size() * BLOOM_HEADROOM;
+        double ln2 = Math.log(2);
+        bitCount = Math.max(64, (int) Math.ceil(-expectedItems * Math.log(FALSE_POSITIVE_RATE) / (ln2 * ln2)));
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedItems * ln2));
+        bits = new long[(bitCount + 63) >>> 6];
+
+        Set<Integer> items = exactItems;
+        exactItems = null;
+        for (int itemId : items) {
+            setBits(itemId);
+        }
+    }
+
+    private void setBits(int itemId) {
+        int h1 = mix(itemId);
+        int h2 = mix(h1 ^ 0x5bd1e995) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
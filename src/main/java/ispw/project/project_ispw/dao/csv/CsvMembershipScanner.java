@@ -0,0 +1,28 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Strategy used by {@link CsvMembershipFile} to replay a membership file and collect the live item ids of one list.
+ */
+public interface CsvMembershipScanner {
+
+    String OPENCSV = "opencsv";
+    String MAPPED = "mapped";
+
+    Set<Integer> liveItemIds(Path path, int listId) throws IOException, CsvValidationException;
+
+    static CsvMembershipScanner forName(String name) {
+        if (OPENCSV.equalsIgnoreCase(name)) {
+            return new OpenCsvMembershipScanner();
+        }
+        if (MAPPED.equalsIgnoreCase(name)) {
+            return new MappedCsvMembershipScanner();
+        }
+        throw new IllegalArgumentException("Unknown CSV membership scanner: " + name);
+    }
+}
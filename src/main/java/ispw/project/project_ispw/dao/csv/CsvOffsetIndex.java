@@ -0,0 +1,545 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import ispw.project.project_ispw.exception.CsvDaoException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sidecar index mapping the primary key (first column) of a CSV file to the byte offset of its record.
+ * The index is persisted next to the data file as "&lt;file&gt;.idx", extended on every append and
+ * rebuilt from scratch whenever the data file is rewritten. Deletions are appended as tombstones and
+ * recorded in the sidecar with a negative offset. Every write to the sidecar ends with a checkpoint line holding
+ * the indexed length of the data file and its record counts, so a restart resumes exactly where indexing stopped.
+ */
+public class CsvOffsetIndex implements CsvCompactor.Compactable, CsvWriteBehindQueue.Target {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvOffsetIndex.class.getName());
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String CHECKPOINT_PREFIX = "#";
+    private static final long REMOVED = -1L;
+    private static final int KEY_COLUMNS = 1;
+
+    private final Path dataPath;
+    private final Path indexPath;
+    private final Map<String, Long> offsets = new HashMap<>();
+    private final Set<String> removedKeys = new HashSet<>();
+    private final CSVParser csvParser = new CSVParser();
+    private final CsvWriteBehindQueue writeBehindQueue = CsvWriteBehindQueue.getInstance();
+    private final Map<String, String[]> pendingRecords = new HashMap<>();
+    // Serializes every append, direct or queued, so a check-then-append in appendIfAbsent cannot interleave with
+    // another writer. Kept apart from the monitor of this object because a queued append may block on a full queue
+    // while the writer thread needs that monitor to drain it.
+    private final Object appendLock = new Object();
+
+    private long indexedLength;
+    private long checkpointedLength = -1;
+    private long liveRecordCount;
+    private long tombstoneCount;
+
+    public CsvOffsetIndex(String dataFileName) {
+        this.dataPath = Paths.get(dataFileName);
+        this.indexPath = Paths.get(dataFileName + INDEX_SUFFIX);
+        try {
+            load();
+        } catch (IOException e) {
+            throw new CsvDaoException("Initialization failed: Could not load offset index for " + dataFileName, e);
+        }
+    }
+
+    public String[] retrieve(String key) throws IOException, CsvValidationException {
+        String[] pendingRecord = pendingRecordOf(key);
+        if (pendingRecord != null) {
+            return CsvTombstone.isTombstone(pendingRecord, KEY_COLUMNS) ? null : pendingRecord;
+        }
+
+        Long offset = offsetOf(key);
+        if (offset == null) {
+            return null;
+        }
+
+        String[] recordAtOffset = readRecordAt(offset);
+        if (recordAtOffset != null && recordAtOffset.length > 0 && key.equals(recordAtOffset[0])) {
+            return recordAtOffset;
+        }
+
+        LOGGER.log(Level.WARNING, "Stale offset index for {0} (key {1}). Rebuilding index.", new Object[]{dataPath, key});
+        rebuild();
+        offset = offsetOf(key);
+        return offset == null ? null : readRecordAt(offset);
+    }
+
+    public synchronized Long offsetOf(String key) throws IOException {
+        catchUp();
+        return offsets.get(key);
+    }
+
+    public boolean contains(String key) throws IOException {
+        String[] pendingRecord = pendingRecordOf(key);
+        if (pendingRecord != null) {
+            return !CsvTombstone.isTombstone(pendingRecord, KEY_COLUMNS);
+        }
+        return offsetOf(key) != null;
+    }
+
+    public synchronized int maxIntKey() throws IOException {
+        catchUp();
+        // Deleted keys count too, so a sequence seeded from this never hands a deleted id out again.
+        Set<String> keys = new HashSet<>(offsets.keySet());
+        keys.addAll(removedKeys);
+        synchronized (pendingRecords) {
+            keys.addAll(pendingRecords.keySet());
+        }
+        return highestIntKey(keys);
+    }
+
+    public void append(String key, String[] recordCsv) throws IOException {
+        synchronized (appendLock) {
+            if (writeBehindQueue.isEnabled()) {
+                enqueue(key, recordCsv);
+                return;
+            }
+            synchronized (this) {
+                catchUp();
+                long offset = appendRecord(recordCsv);
+
+                List<Map.Entry<String, Long>> changes = new ArrayList<>();
+                applyEntry(key, offset, changes);
+                appendIndexEntries(changes);
+            }
+        }
+    }
+
+    /**
+     * Appends the record only if the key has no live record yet; returns whether it was appended.
+     */
+    public boolean appendIfAbsent(String key, String[] recordCsv) throws IOException {
+        synchronized (appendLock) {
+            if (contains(key)) {
+                return false;
+            }
+            append(key, recordCsv);
+            return true;
+        }
+    }
+
+    public void appendTombstone(String key) throws IOException {
+        synchronized (appendLock) {
+            if (writeBehindQueue.isEnabled()) {
+                enqueue(key, CsvTombstone.of(key));
+                return;
+            }
+            synchronized (this) {
+                catchUp();
+                appendRecord(CsvTombstone.of(key));
+
+                List<Map.Entry<String, Long>> changes = new ArrayList<>();
+                applyEntry(key, REMOVED, changes);
+                appendIndexEntries(changes);
+                CsvCompactor.compactIfNeeded(this);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void writeBatch(List<String[]> records) throws IOException {
+        ByteArrayOutputStream batchBytes = new ByteArrayOutputStream();
+        for (String[] recordCsv : records) {
+            batchBytes.write(toCsvBytes(recordCsv));
+        }
+        catchUp();
+        writeBytes(batchBytes.toByteArray());
+        catchUp();
+
+        // Only written records leave the pending view; failed ones stay readable until the queue retries them.
+        synchronized (pendingRecords) {
+            for (String[] recordCsv : records) {
+                pendingRecords.remove(recordCsv[0], recordCsv);
+            }
+        }
+        CsvCompactor.compactIfNeeded(this);
+    }
+
+    public synchronized void rebuild() throws IOException {
+        offsets.clear();
+        removedKeys.clear();
+        liveRecordCount = 0;
+        tombstoneCount = 0;
+        indexedLength = scanRecords(0, new ArrayList<>());
+        writeIndexFile();
+    }
+
+    @Override
+    public synchronized long recordCount() {
+        return liveRecordCount + tombstoneCount;
+    }
+
+    @Override
+    public synchronized long tombstoneCount() {
+        return tombstoneCount;
+    }
+
+    @Override
+    public synchronized void compact() throws IOException, CsvValidationException {
+        catchUp();
+        int liveRecords = CsvFileLocks.withWriteLock(dataPath, this::rewriteLiveRecords);
+
+        LOGGER.log(Level.INFO, "Compacted {0}: {1} records ({2} tombstones) reduced to {3}.",
+                new Object[]{dataPath, recordCount(), tombstoneCount, liveRecords});
+        rebuild();
+    }
+
+    private int rewriteLiveRecords() throws IOException, CsvValidationException {
+        Map<String, String[]> liveRecords = new LinkedHashMap<>();
+        Set<String> deletedKeys = new HashSet<>();
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(dataPath))) {
+            String[] recordCsv;
+            while ((recordCsv = csvReader.readNext()) != null) {
+                if (recordCsv.length == 0 || recordCsv[0].isEmpty()) {
+                    continue;
+                }
+                if (CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS)) {
+                    liveRecords.remove(recordCsv[0]);
+                    deletedKeys.add(recordCsv[0]);
+                } else {
+                    liveRecords.putIfAbsent(recordCsv[0], recordCsv);
+                }
+            }
+        }
+
+        List<String[]> rewrittenRecords = new ArrayList<>(liveRecords.values());
+        // Keep the tombstone of the highest deleted id, otherwise maxIntKey() could fall below it after compaction.
+        int highestDeletedKey = highestIntKey(deletedKeys);
+        if (highestDeletedKey > highestIntKey(liveRecords.keySet())) {
+            rewrittenRecords.add(CsvTombstone.of(String.valueOf(highestDeletedKey)));
+        }
+
+        Path tempPath = Paths.get(dataPath + ".tmp");
+        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(tempPath))) {
+            csvWriter.writeAll(rewrittenRecords);
+        }
+        Files.move(tempPath, dataPath, StandardCopyOption.REPLACE_EXISTING);
+        return liveRecords.size();
+    }
+
+    @Override
+    public String toString() {
+        return dataPath.toString();
+    }
+
+    private void enqueue(String key, String[] recordCsv) throws IOException {
+        synchronized (pendingRecords) {
+            pendingRecords.put(key, recordCsv);
+        }
+        try {
+            writeBehindQueue.enqueue(this, recordCsv);
+        } catch (IOException e) {
+            // Never queued, so never written: readers must not keep seeing it.
+            synchronized (pendingRecords) {
+                pendingRecords.remove(key, recordCsv);
+            }
+            throw e;
+        }
+    }
+
+    private String[] pendingRecordOf(String key) {
+        synchronized (pendingRecords) {
+            return pendingRecords.get(key);
+        }
+    }
+
+    private long appendRecord(String[] recordCsv) throws IOException {
+        byte[] recordBytes = toCsvBytes(recordCsv);
+        long offset = writeBytes(recordBytes);
+        indexedLength = offset + recordBytes.length;
+        return offset;
+    }
+
+    private long writeBytes(byte[] bytes) throws IOException {
+        return CsvFileLocks.withWriteLock(dataPath, () -> appendBytes(bytes));
+    }
+
+    private long appendBytes(byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return offset;
+        }
+    }
+
+    private void applyEntry(String key, long offset, List<Map.Entry<String, Long>> changes) {
+        if (offset == REMOVED) {
+            tombstoneCount++;
+        } else {
+            liveRecordCount++;
+        }
+        applyOffset(key, offset, changes);
+    }
+
+    private void applyOffset(String key, long offset, List<Map.Entry<String, Long>> changes) {
+        if (offset == REMOVED) {
+            removedKeys.add(key);
+            if (offsets.remove(key) != null) {
+                changes.add(Map.entry(key, REMOVED));
+            }
+        } else if (offsets.putIfAbsent(key, offset) == null) {
+            changes.add(Map.entry(key, offset));
+        }
+    }
+
+    private void load() throws IOException {
+        long resumeOffset = Files.exists(indexPath) ? readIndexFile() : -1;
+
+        if (resumeOffset < 0) {
+            rebuild();
+            return;
+        }
+
+        if (!matchesDataFile(resumeOffset)) {
+            LOGGER.log(Level.WARNING, "Offset index {0} does not match its data file. Rebuilding index.", indexPath);
+            rebuild();
+            return;
+        }
+
+        indexedLength = resumeOffset;
+        checkpointedLength = resumeOffset;
+        catchUp();
+    }
+
+    /**
+     * The data file must still reach the indexed length, end a record there, and hold at the highest indexed
+     * offset the record of the key mapped to it.
+     */
+    private boolean matchesDataFile(long length) throws IOException {
+        if (length > Files.size(dataPath) || (length > 0 && byteAt(length - 1) != '\n')) {
+            return false;
+        }
+
+        Map.Entry<String, Long> lastEntry = null;
+        for (Map.Entry<String, Long> entry : offsets.entrySet()) {
+            if (lastEntry == null || entry.getValue() > lastEntry.getValue()) {
+                lastEntry = entry;
+            }
+        }
+        if (lastEntry == null) {
+            return true;
+        }
+        if (lastEntry.getValue() >= length) {
+            return false;
+        }
+        try {
+            String[] recordAtOffset = readRecordAt(lastEntry.getValue());
+            return recordAtOffset != null && recordAtOffset.length > 0 && lastEntry.getKey().equals(recordAtOffset[0]);
+        } catch (CsvValidationException e) {
+            return false;
+        }
+    }
+
+    private int byteAt(long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            return channel.read(buffer, position) == 1 ? buffer.get(0) : -1;
+        }
+    }
+
+    private void catchUp() throws IOException {
+        long dataLength = Files.size(dataPath);
+        if (dataLength == indexedLength) {
+            return;
+        }
+        if (dataLength < indexedLength) {
+            rebuild();
+            return;
+        }
+
+        List<Map.Entry<String, Long>> changes = new ArrayList<>();
+        indexedLength = scanRecords(indexedLength, changes);
+        appendIndexEntries(changes);
+    }
+
+    private long scanRecords(long startOffset, List<Map.Entry<String, Long>> changes) throws IOException {
+        return CsvFileLocks.withReadLock(dataPath, () -> scanRecordsUnlocked(startOffset, changes));
+    }
+
+    private long scanRecordsUnlocked(long startOffset, List<Map.Entry<String, Long>> changes) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ);
+             InputStream input = new BufferedInputStream(Channels.newInputStream(channel.position(startOffset)))) {
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            long position = startOffset;
+            long recordStart = startOffset;
+            boolean inQuotes = false;
+            int current;
+
+            while ((current = input.read()) != -1) {
+                position++;
+                if (current == '"') {
+                    inQuotes = !inQuotes;
+                }
+                if (current == '\n' && !inQuotes) {
+                    indexRecord(recordBytes.toByteArray(), recordStart, changes);
+                    recordBytes.reset();
+                    recordStart = position;
+                } else {
+                    recordBytes.write(current);
+                }
+            }
+            return recordStart;
+        }
+    }
+
+    private void indexRecord(byte[] recordBytes, long recordStart, List<Map.Entry<String, Long>> changes) {
+        String line = new String(recordBytes, StandardCharsets.UTF_8).strip();
+        if (line.isEmpty()) {
+            return;
+        }
+        try {
+            String[] recordCsv = csvParser.parseLine(line);
+            if (recordCsv != null && recordCsv.length > 0 && !recordCsv[0].isEmpty()) {
+                boolean tombstone = CsvTombstone.isTombstone(recordCsv, KEY_COLUMNS);
+                applyEntry(recordCsv[0], tombstone ? REMOVED : recordStart, changes);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Skipping malformed record at offset {0} of {1} while indexing. Error: {2}",
+                    new Object[]{recordStart, dataPath, e.getMessage()});
+        }
+    }
+
+    private String[] readRecordAt(long offset) throws IOException, CsvValidationException {
+        return CsvFileLocks.withReadLock(dataPath, () -> readRecordAtUnlocked(offset));
+    }
+
+    private String[] readRecordAtUnlocked(long offset) throws IOException, CsvValidationException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ);
+             CSVReader csvReader = new CSVReader(Channels.newReader(channel.position(offset), StandardCharsets.UTF_8))) {
+            return csvReader.readNext();
+        }
+    }
+
+    /**
+     * Replays the sidecar and returns the indexed length of its last checkpoint, or -1 when it has none or
+     * cannot be read.
+     */
+    private long readIndexFile() {
+        long checkpointLength = -1;
+        try (BufferedReader reader = Files.newBufferedReader(indexPath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(CHECKPOINT_PREFIX)) {
+                    String[] checkpoint = line.substring(CHECKPOINT_PREFIX.length()).split(ENTRY_SEPARATOR);
+                    checkpointLength = Long.parseLong(checkpoint[0]);
+                    liveRecordCount = Long.parseLong(checkpoint[1]);
+                    tombstoneCount = Long.parseLong(checkpoint[2]);
+                    continue;
+                }
+                int separator = line.indexOf(ENTRY_SEPARATOR);
+                if (separator <= 0) {
+                    continue;
+                }
+                long offset = Long.parseLong(line.substring(0, separator));
+                String key = line.substring(separator + 1);
+                applyOffset(key, offset, new ArrayList<>());
+            }
+        } catch (IOException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            LOGGER.log(Level.WARNING, "Unreadable offset index {0}. It will be rebuilt. Error: {1}", new Object[]{indexPath, e.getMessage()});
+            checkpointLength = -1;
+        }
+        if (checkpointLength < 0) {
+            offsets.clear();
+            removedKeys.clear();
+            liveRecordCount = 0;
+            tombstoneCount = 0;
+        }
+        return checkpointLength;
+    }
+
+    private void appendIndexEntries(List<Map.Entry<String, Long>> entries) throws IOException {
+        if (entries.isEmpty() && indexedLength == checkpointedLength) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(indexPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeEntries(writer, entries);
+            writeCheckpoint(writer);
+        }
+    }
+
+    private void writeIndexFile() throws IOException {
+        Path tempPath = Paths.get(indexPath + ".tmp");
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(offsets.entrySet());
+        for (String key : removedKeys) {
+            if (!offsets.containsKey(key)) {
+                entries.add(Map.entry(key, REMOVED));
+            }
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath)) {
+            writeEntries(writer, entries);
+            writeCheckpoint(writer);
+        }
+        Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeCheckpoint(BufferedWriter writer) throws IOException {
+        writer.write(CHECKPOINT_PREFIX + indexedLength + ENTRY_SEPARATOR + liveRecordCount + ENTRY_SEPARATOR + tombstoneCount);
+        writer.newLine();
+        checkpointedLength = indexedLength;
+    }
+
+    private static void writeEntries(BufferedWriter writer, List<Map.Entry<String, Long>> entries) throws IOException {
+        for (Map.Entry<String, Long> entry : entries) {
+            writer.write(entry.getValue() + ENTRY_SEPARATOR + entry.getKey());
+            writer.newLine();
+        }
+    }
+
+    private int highestIntKey(Set<String> keys) {
+        int maxKey = 0;
+        for (String key : keys) {
+            try {
+                maxKey = Math.max(maxKey, Integer.parseInt(key));
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.FINE, "Ignoring non-numeric key {0} of {1}", new Object[]{key, dataPath});
+            }
+        }
+        return maxKey;
+    }
+
+    static byte[] toCsvBytes(String[] recordCsv) throws IOException {
+        StringWriter recordWriter = new StringWriter();
+        try (CSVWriter csvWriter = new CSVWriter(recordWriter)) {
+            csvWriter.writeNext(recordCsv);
+        }
+        return recordWriter.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,82 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Item count and total minutes of one kind of content in a list, summed while the catalog file is streamed
+ * so no bean is built for the items.
+ */
+final class CsvRuntimeTotals {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvRuntimeTotals.class.getName());
+
+    private int count;
+    private long minutes;
+
+    private CsvRuntimeTotals() {
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Scans {@code catalogFileName} once and sums {@code minutesOfRecord} over the first record of every id in
+     * {@code itemIds}; ids with no catalog record are not counted, as in the per-type list lookups.
+     */
+    static CsvRuntimeTotals sum(String catalogFileName, Collection<Integer> itemIds, int minColumns,
+                                ToLongFunction<String[]> minutesOfRecord) throws IOException, CsvValidationException {
+        if (itemIds.isEmpty()) {
+            return new CsvRuntimeTotals();
+        }
+
+        CsvWriteBehindQueue.getInstance().flush();
+        Path path = Paths.get(catalogFileName);
+        return CsvFileLocks.withReadLock(path, () -> scan(path, new HashSet<>(itemIds), minColumns, minutesOfRecord));
+    }
+
+    private static CsvRuntimeTotals scan(Path path, Set<Integer> remaining, int minColumns,
+                                         ToLongFunction<String[]> minutesOfRecord) throws IOException, CsvValidationException {
+        CsvRuntimeTotals totals = new CsvRuntimeTotals();
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(path))) {
+            String[] recordCsv;
+            while (!remaining.isEmpty() && (recordCsv = csvReader.readNext()) != null) {
+                if (recordCsv.length >= minColumns) {
+                    totals.addIfRemaining(recordCsv, remaining, minutesOfRecord);
+                }
+            }
+        }
+        return totals;
+    }
+
+    private void addIfRemaining(String[] recordCsv, Set<Integer> remaining, ToLongFunction<String[]> minutesOfRecord) {
+        try {
+            int id = Integer.parseInt(recordCsv[0]);
+            if (remaining.contains(id)) {
+                minutes += minutesOfRecord.applyAsLong(recordCsv);
+                count++;
+                remaining.remove(id);
+            }
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Skipping malformed catalog record while summing runtimes. Record: {0}, Error: {1}",
+                    new Object[]{Arrays.toString(recordCsv), e.getMessage()});
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.util.Arrays;
+
+/**
+ * Record format used to mark deletions in append-only CSV files.
+ * A tombstone repeats the key columns of the record it deletes followed by a single marker column.
+ */
+public final class CsvTombstone {
+
+    public static final String MARKER = "~deleted";
+    public static final String ALL_ITEMS = "*";
+
+    private CsvTombstone() {
+        //Utility class
+    }
+
+    public static String[] of(String... keyColumns) {
+        String[] recordCsv = Arrays.copyOf(keyColumns, keyColumns.length + 1);
+        recordCsv[keyColumns.length] = MARKER;
+        return recordCsv;
+    }
+
+    public static boolean isTombstone(String[] recordCsv, int keyColumns) {
+        return recordCsv != null && recordCsv.length == keyColumns + 1 && MARKER.equals(recordCsv[keyColumns]);
+    }
+}
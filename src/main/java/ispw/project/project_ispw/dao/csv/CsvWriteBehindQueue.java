@@ -0,0 +1,206 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Optional group-commit queue for CSV appends. Producers hand records to a bounded queue and return immediately;
+ * a single writer thread drains the queue in batches (up to a configurable size, waiting at most a configurable
+ * latency for a batch to fill) and appends each file's share of the batch with one open/write/close.
+ * Targets keep their queued records visible to readers until the writer has put them on disk.
+ * A batch that fails to write is kept and retried after a short delay, ahead of anything queued later for the
+ * same file; {@link #flush()} reports the failure instead of waiting for it to clear.
+ */
+public final class CsvWriteBehindQueue {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvWriteBehindQueue.class.getName());
+
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long RETRY_DELAY_MILLIS = 200;
+
+    private static final CsvWriteBehindQueue INSTANCE = new CsvWriteBehindQueue(
+            CsvConfig.getBoolean("csv.write.behind.enabled", false),
+            CsvConfig.getInt("csv.write.behind.capacity", 1024),
+            CsvConfig.getInt("csv.write.behind.batch.size", 64),
+            CsvConfig.getInt("csv.write.behind.max.latency.ms", 20));
+
+    public interface Target {
+        void writeBatch(List<String[]> records) throws IOException;
+    }
+
+    private record PendingWrite(Target target, String[] recordCsv) {
+    }
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<PendingWrite> queue;
+
+    private final Object progressLock = new Object();
+    private long enqueuedCount;
+    private long writtenCount;
+    private long failureCount;
+    private Exception lastFailure;
+
+    CsvWriteBehindQueue(boolean enabled, int capacity, int batchSize, long maxLatencyMillis) {
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxLatencyMillis));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+
+        if (enabled) {
+            Thread writer = new Thread(this::drainLoop, "csv-write-behind");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flushQuietly, "csv-write-behind-shutdown"));
+        }
+    }
+
+    public static CsvWriteBehindQueue getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a record for the target. When this throws the record was not queued and will never be written, so
+     * the target must drop it from whatever it shows readers.
+     */
+    public void enqueue(Target target, String[] recordCsv) throws IOException {
+        synchronized (progressLock) {
+            enqueuedCount++;
+        }
+        try {
+            queue.put(new PendingWrite(target, recordCsv));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markWritten(1);
+            throw new IOException("Interrupted while queueing a CSV write.", e);
+        }
+    }
+
+    /**
+     * Blocks until every record queued before this call has been written. Throws if a write fails while waiting;
+     * the failed records stay queued and are retried.
+     */
+    public void flush() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (progressLock) {
+            long target = enqueuedCount;
+            long failuresBefore = failureCount;
+            while (writtenCount < target) {
+                if (failureCount != failuresBefore) {
+                    throw new IOException("Queued CSV writes failed and will be retried: " + lastFailure.getMessage(), lastFailure);
+                }
+                try {
+                    progressLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for pending CSV writes.", e);
+                }
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                } else {
+                    // The writes left in the batch failed last time; give the file system a moment before retrying.
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                }
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch = writeBatch(batch);
+        }
+    }
+
+    /**
+     * Writes each target's share of the batch and returns the writes that failed, in their original order.
+     */
+    private List<PendingWrite> writeBatch(List<PendingWrite> batch) {
+        List<PendingWrite> failed = new ArrayList<>();
+        if (batch.isEmpty()) {
+            return failed;
+        }
+        Map<Target, List<PendingWrite>> writesByTarget = new LinkedHashMap<>();
+        for (PendingWrite pendingWrite : batch) {
+            writesByTarget.computeIfAbsent(pendingWrite.target(), target -> new ArrayList<>()).add(pendingWrite);
+        }
+        for (Map.Entry<Target, List<PendingWrite>> entry : writesByTarget.entrySet()) {
+            List<String[]> records = new ArrayList<>(entry.getValue().size());
+            for (PendingWrite pendingWrite : entry.getValue()) {
+                records.add(pendingWrite.recordCsv());
+            }
+            try {
+                entry.getKey().writeBatch(records);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Failed to write {0} queued records to {1}; they will be retried. Error: {2}",
+                        new Object[]{records.size(), entry.getKey(), e.getMessage()});
+                failed.addAll(entry.getValue());
+                markFailed(e);
+            }
+        }
+        markWritten(batch.size() - failed.size());
+        return failed;
+    }
+
+    private void markFailed(Exception failure) {
+        synchronized (progressLock) {
+            failureCount++;
+            lastFailure = failure;
+            progressLock.notifyAll();
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (progressLock) {
+            writtenCount += count;
+            progressLock.notifyAll();
+        }
+    }
+
+    private void flushQuietly() {
+        long deadline = System.nanoTime() + SHUTDOWN_FLUSH_TIMEOUT_NANOS;
+        synchronized (progressLock) {
+            while (writtenCount < enqueuedCount) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    LOGGER.log(Level.SEVERE, "Shutting down with {0} CSV writes still queued.", enqueuedCount - writtenCount);
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(progressLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
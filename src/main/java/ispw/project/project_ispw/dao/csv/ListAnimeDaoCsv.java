@@ -1,7 +1,6 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.AnimeBean;
 import ispw.project.project_ispw.bean.ListBean;
@@ -13,118 +12,151 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ListAnimeDaoCsv implements ListAnime {
     private static final Logger LOGGER = Logger.getLogger(ListAnimeDaoCsv.class.getName());
 
-    private static final String CSV_FILE_NAME;
-    private static final String ANIME_CSV_FILE_NAME;
+    private final String animeCsvFileName;
+    private final CsvMembershipFile membershipFile;
 
-    static {
-        Properties properties = new Properties();
-        String listAnimeFileName = "list_anime.csv";
-        String animeFileName = "anime.csv";
+    // The configured files, opened on first use of the public constructor so that nothing touches them otherwise.
+    private static final class DefaultFiles {
+        private static final String CSV_FILE_NAME;
+        private static final String ANIME_CSV_FILE_NAME;
 
-        try (InputStream input = ListAnimeDaoCsv.class.getClassLoader().getResourceAsStream("csv.properties")) {
-            if (input != null) {
-                properties.load(input);
-                listAnimeFileName = properties.getProperty("list_anime.csv.filename", listAnimeFileName);
-                animeFileName = properties.getProperty("anime.csv.filename", animeFileName);
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to load csv.properties. Using default CSV file names.", e);
-        }
+        private static final CsvMembershipFile MEMBERSHIP_FILE;
 
-        CSV_FILE_NAME = listAnimeFileName;
-        ANIME_CSV_FILE_NAME = animeFileName;
+        static {
+            Properties properties = new Properties();
+            String listAnimeFileName = "list_anime.csv";
+            String animeFileName = "anime.csv";
 
-        try {
-            if (!Files.exists(Paths.get(CSV_FILE_NAME))) {
-                Files.createFile(Paths.get(CSV_FILE_NAME));
+            try (InputStream input = ListAnimeDaoCsv.class.getClassLoader().getResourceAsStream("csv.properties")) {
+                if (input != null) {
+                    properties.load(input);
+                    listAnimeFileName = properties.getProperty("list_anime.csv.filename", listAnimeFileName);
+                    animeFileName = properties.getProperty("anime.csv.filename", animeFileName);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load csv.properties. Using default CSV file names.", e);
             }
-            if (!Files.exists(Paths.get(ANIME_CSV_FILE_NAME))) {
-                Files.createFile(Paths.get(ANIME_CSV_FILE_NAME));
+
+            CSV_FILE_NAME = listAnimeFileName;
+            ANIME_CSV_FILE_NAME = animeFileName;
+
+            try {
+                if (!Files.exists(Paths.get(CSV_FILE_NAME))) {
+                    Files.createFile(Paths.get(CSV_FILE_NAME));
+                }
+                if (!Files.exists(Paths.get(ANIME_CSV_FILE_NAME))) {
+                    Files.createFile(Paths.get(ANIME_CSV_FILE_NAME));
+                }
+            } catch (IOException e) {
+                throw new CsvDaoException("Initialization failed: Could not create CSV files.", e);
             }
-        } catch (IOException e) {
-            throw new CsvDaoException("Initialization failed: Could not create CSV files.", e);
+            MEMBERSHIP_FILE = new CsvMembershipFile(CSV_FILE_NAME,
+                    CsvMembershipScanner.forName(CsvConfig.getString("list_anime.csv.scanner", CsvMembershipScanner.MAPPED)));
         }
     }
 
     public ListAnimeDaoCsv() {
-        //Empty constructor
+        this(DefaultFiles.ANIME_CSV_FILE_NAME, DefaultFiles.MEMBERSHIP_FILE);
+    }
+
+    /**
+     * Works on the given files instead of the configured ones; used by tests.
+     */
+    ListAnimeDaoCsv(String listAnimeFileName, String animeFileName) {
+        this(animeFileName, new CsvMembershipFile(listAnimeFileName,
+                CsvMembershipScanner.forName(CsvConfig.getString("list_anime.csv.scanner", CsvMembershipScanner.MAPPED))));
+    }
+
+    private ListAnimeDaoCsv(String animeCsvFileName, CsvMembershipFile membershipFile) {
+        this.animeCsvFileName = animeCsvFileName;
+        this.membershipFile = membershipFile;
     }
 
     @Override
     public void addAnimeToList(ListBean list, AnimeBean anime) throws ExceptionDao {
         try {
-            if (animeExistsInList(list, anime)) {
+            if (animeExistsInList(list, anime.getIdAnimeTmdb())) {
                 throw new ExceptionDao("Anime ID " + anime.getIdAnimeTmdb() + " already exists in list ID " + list.getId() + ".");
             }
+            membershipFile.add(list.getId(), anime.getIdAnimeTmdb());
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to add anime to list in CSV. I/O error.", e);
+        }
+    }
 
-            try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-                String[] recordAnime = {String.valueOf(list.getId()), String.valueOf(anime.getIdAnimeTmdb())};
-                csvWriter.writeNext(recordAnime);
+    @Override
+    public void addAnimesToList(ListBean list, Collection<AnimeBean> animeList) throws ExceptionDao {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (AnimeBean anime : animeList) {
+            if (!ids.add(anime.getIdAnimeTmdb())) {
+                throw new ExceptionDao("Anime ID " + anime.getIdAnimeTmdb() + " appears more than once in the batch for list ID " + list.getId() + ".");
+            }
+            if (animeExistsInList(list, anime.getIdAnimeTmdb())) {
+                throw new ExceptionDao("Anime ID " + anime.getIdAnimeTmdb() + " already exists in list ID " + list.getId() + ".");
             }
+        }
+        try {
+            membershipFile.addAll(list.getId(), ids);
         } catch (IOException e) {
-            throw new ExceptionDao("Failed to add anime to list in CSV. I/O error.", e);
+            throw new ExceptionDao("Failed to add anime to list in CSV. I/O or data error.", e);
         }
     }
 
     @Override
     public void removeAnimeFromList(ListBean list, AnimeBean anime) throws ExceptionDao {
-        try {
-            if (!animeExistsInList(list, anime)) {
-                throw new ExceptionDao("Anime ID " + anime.getIdAnimeTmdb() + " not found in list ID " + list.getId() + ".");
-            }
+        removeAnimeFromList(list, anime.getIdAnimeTmdb());
+    }
 
-            List<String[]> allRecords = new ArrayList<>();
-            try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)));
-                 CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME)))) {
-                String[] recordAnime;
-                while ((recordAnime = csvReader.readNext()) != null) {
-                    if (recordAnime.length < 2) {
-                        continue;
-                    }
-                    if (!(recordAnime[0].equals(String.valueOf(list.getId())) && recordAnime[1].equals(String.valueOf(anime.getIdAnimeTmdb())))) {
-                        allRecords.add(recordAnime);
-                    }
-                }
-                csvWriter.writeAll(allRecords);
+    @Override
+    public void removeAnimeFromList(ListBean list, int animeId) throws ExceptionDao {
+        try {
+            if (!animeExistsInList(list, animeId)) {
+                throw new ExceptionDao("Anime ID " + animeId + " not found in list ID " + list.getId() + ".");
             }
-        } catch (IOException | CsvValidationException e) {
+            membershipFile.remove(list.getId(), animeId);
+        } catch (IOException e) {
             throw new ExceptionDao("Failed to remove anime from list in CSV. I/O or data error.", e);
         }
     }
 
     @Override
     public List<AnimeBean> getAllAnimeInList(ListBean list) throws ExceptionDao {
-        List<AnimeBean> animeList = new ArrayList<>();
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordAnime;
-            while ((recordAnime = csvReader.readNext()) != null) {
-                if (recordAnime.length < 2) {
-                    continue;
-                }
-                if (recordAnime[0].equals(String.valueOf(list.getId()))) {
-                    int animeId = Integer.parseInt(recordAnime[1]);
-                    AnimeBean anime = fetchAnimeById(animeId);
-                    if (anime != null) {
-                        animeList.add(anime);
-                    }
-                }
-            }
-        } catch (IOException | NumberFormatException e) {
+        List<Integer> animeIds;
+        try {
+            animeIds = membershipFile.itemIdsOf(list.getId());
+        } catch (IOException e) {
             throw new ExceptionDao("Failed to retrieve all animes for list from CSV. Data corruption or I/O error.", e);
         } catch (CsvValidationException e) {
             throw new CsvDaoException("CSV data validation error during getAllAnimeInList.", e);
         }
 
+        List<AnimeBean> animeList = new ArrayList<>();
+        if (animeIds.isEmpty()) {
+            return animeList;
+        }
+
+        Map<Integer, AnimeBean> animeById = fetchAnimeByIds(new HashSet<>(animeIds));
+        for (int animeId : animeIds) {
+            AnimeBean anime = animeById.get(animeId);
+            if (anime != null) {
+                animeList.add(anime);
+            }
+        }
         return animeList;
     }
 
@@ -135,69 +167,63 @@ public class ListAnimeDaoCsv implements ListAnime {
         }
 
         try {
-            List<String[]> allRecords = new ArrayList<>();
-
-            try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)));
-                 CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME)))) {
-                String[] recordAnime;
-                while ((recordAnime = csvReader.readNext()) != null) {
-                    if (recordAnime.length < 2) {
-                        continue;
-                    }
-                    if (!recordAnime[0].equals(String.valueOf(list.getId()))) {
-                        allRecords.add(recordAnime);
-                    }
-                }
-                csvWriter.writeAll(allRecords);
-            }
-        } catch (IOException | CsvValidationException e) {
+            membershipFile.removeAll(list.getId());
+        } catch (IOException e) {
             throw new ExceptionDao("Failed to remove all anime from list in CSV. I/O or data error.", e);
         }
     }
 
-    private boolean animeExistsInList(ListBean list, AnimeBean anime) throws ExceptionDao {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordAnime;
-            while ((recordAnime = csvReader.readNext()) != null) {
-                if (recordAnime.length < 2) {
-                    continue;
-                }
-                if (recordAnime[0].equals(String.valueOf(list.getId())) && recordAnime[1].equals(String.valueOf(anime.getIdAnimeTmdb()))) {
-                    return true;
-                }
-            }
+    CsvRuntimeTotals runtimeTotalsOf(ListBean list) throws ExceptionDao {
+        try {
+            return CsvRuntimeTotals.sum(animeCsvFileName, membershipFile.itemIdsOf(list.getId()), 4,
+                    recordAnime -> Long.parseLong(recordAnime[2]) * Long.parseLong(recordAnime[1]));
+        } catch (IOException | CsvValidationException e) {
+            throw new ExceptionDao("Failed to sum anime runtimes for list from CSV. I/O or data error.", e);
+        }
+    }
+
+    private boolean animeExistsInList(ListBean list, int animeId) throws ExceptionDao {
+        try {
+            return membershipFile.contains(list.getId(), animeId);
         } catch (IOException e) {
             throw new ExceptionDao("Failed to check anime existence in list from CSV. I/O error.", e);
         } catch (CsvValidationException e) {
             throw new CsvDaoException("CSV data validation error during animeExistsInList.", e);
         }
-        return false;
     }
 
-    private AnimeBean fetchAnimeById(int id) throws ExceptionDao {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(ANIME_CSV_FILE_NAME)))) {
+    private Map<Integer, AnimeBean> fetchAnimeByIds(Set<Integer> animeIds) throws ExceptionDao {
+        try {
+            CsvWriteBehindQueue.getInstance().flush();
+            return CsvFileLocks.withReadLock(Paths.get(animeCsvFileName), () -> scanAnimeByIds(animeIds));
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to fetch anime details from main anime CSV file. I/O error.", e);
+        } catch (CsvValidationException e) {
+            throw new CsvDaoException("CSV data validation error during fetchAnimeByIds.", e);
+        }
+    }
+
+    private Map<Integer, AnimeBean> scanAnimeByIds(Set<Integer> animeIds) throws IOException, CsvValidationException {
+        Map<Integer, AnimeBean> animeById = new HashMap<>(animeIds.size() * 2);
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(animeCsvFileName)))) {
             String[] recordAnime;
-            while ((recordAnime = csvReader.readNext()) != null) {
+            while ((recordAnime = csvReader.readNext()) != null && animeById.size() < animeIds.size()) {
                 if (recordAnime.length < 4) {
                     continue;
                 }
-                AnimeBean anime = parseAnimeRecord(recordAnime, id);
+                AnimeBean anime = parseAnimeRecord(recordAnime, animeIds);
                 if (anime != null) {
-                    return anime;
+                    animeById.putIfAbsent(anime.getIdAnimeTmdb(), anime);
                 }
             }
-        } catch (IOException e) {
-            throw new ExceptionDao("Failed to fetch anime details from main anime CSV file. I/O error.", e);
-        } catch (CsvValidationException e) {
-            throw new CsvDaoException("CSV data validation error during fetchAnimeById.", e);
         }
-        return null;
+        return animeById;
     }
 
-    private AnimeBean parseAnimeRecord(String[] recordAnime, int targetId) {
+    private AnimeBean parseAnimeRecord(String[] recordAnime, Set<Integer> targetIds) {
         try {
             int currentId = Integer.parseInt(recordAnime[0]);
-            if (currentId == targetId) {
+            if (targetIds.contains(currentId)) {
                 int duration = Integer.parseInt(recordAnime[2]);
                 int episodes = Integer.parseInt(recordAnime[1]);
                 String title = recordAnime[3];
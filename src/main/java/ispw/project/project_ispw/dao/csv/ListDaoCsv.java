@@ -1,10 +1,10 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.ListBean;
 import ispw.project.project_ispw.bean.UserBean;
+import ispw.project.project_ispw.cache.EntityCache;
 import ispw.project.project_ispw.dao.ListDao;
 import ispw.project.project_ispw.exception.CsvDaoException;
 import ispw.project.project_ispw.exception.ExceptionDao;
@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,7 +24,13 @@ public class ListDaoCsv implements ListDao {
 
     private static final String CSV_FILE_NAME;
 
-    private final HashMap<Integer, ListBean> localCache;
+    private static final CsvOffsetIndex OFFSET_INDEX;
+
+    private static final CsvIdSequence ID_SEQUENCE;
+
+    private static final Map<String, NavigableSet<Integer>> LIST_IDS_BY_USERNAME = new ConcurrentHashMap<>();
+
+    private final EntityCache<Integer, ListBean> localCache;
 
     static {
         Properties properties = new Properties();
@@ -47,18 +55,33 @@ public class ListDaoCsv implements ListDao {
         } catch (IOException e) {
             throw new CsvDaoException("Initialization failed: Could not create CSV file for lists.", e);
         }
+        OFFSET_INDEX = new CsvOffsetIndex(CSV_FILE_NAME);
+
+        try {
+            ID_SEQUENCE = new CsvIdSequence(CSV_FILE_NAME + ".seq", OFFSET_INDEX.maxIntKey(),
+                    CsvConfig.getInt("list.csv.sequence.block.size", 20));
+        } catch (IOException e) {
+            throw new CsvDaoException("Initialization failed: Could not initialize the list id sequence.", e);
+        }
+
+        try {
+            for (ListBean list : retrieveAllListsFromFile()) {
+                indexUsername(list);
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new CsvDaoException("Initialization failed: Could not build the username index for lists.", e);
+        }
     }
 
     public ListDaoCsv() {
-        this.localCache = new HashMap<>();
+        this.localCache = new EntityCache<>(CsvConfig.getInt("csv.cache.max.size", 1000));
     }
 
     @Override
     public ListBean retrieveById(int id) throws ExceptionDao {
-        synchronized (localCache) {
-            if (localCache.containsKey(id)) {
-                return localCache.get(id);
-            }
+        ListBean cached = localCache.get(id);
+        if (cached != null) {
+            return cached;
         }
 
         ListBean list = null;
@@ -71,26 +94,18 @@ public class ListDaoCsv implements ListDao {
         }
 
         if (list != null) {
-            synchronized (localCache) {
-                localCache.put(id, list);
-            }
+            localCache.put(id, list);
         }
         return list;
     }
 
     private ListBean retrieveByIdFromFile(int id) throws IOException, NumberFormatException, CsvDaoException {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordList;
-            while ((recordList = csvReader.readNext()) != null) {
-                ListBean foundList = findListRecordById(recordList, id);
-                if (foundList != null) {
-                    return foundList;
-                }
-            }
+        try {
+            String[] recordList = OFFSET_INDEX.retrieve(String.valueOf(id));
+            return recordList == null ? null : findListRecordById(recordList, id);
         } catch (CsvValidationException e) {
             throw new CsvDaoException("CSV validation error during retrieveByIdFromFile.", e);
         }
-        return null;
     }
 
     private ListBean findListRecordById(String[] recordList, int targetId) throws CsvDaoException, NumberFormatException {
@@ -116,93 +131,47 @@ public class ListDaoCsv implements ListDao {
         return null;
     }
 
-    private int parseRecordIdForGeneration(String[] recordList) {
-        if (recordList.length > 0) {
-            try {
-                return Integer.parseInt(recordList[0]);
-            } catch (NumberFormatException e) {
-                LOGGER.log(Level.WARNING, "Skipping malformed record during ID generation due to invalid ID format: {0}, Error: {1}",
-                        new Object[]{Arrays.toString(recordList), e.getMessage()});
-                return 0;
-            }
-        }
-        return 0;
-    }
-
-    private int generateNewListId() throws IOException, CsvDaoException {
-        int maxId = 0;
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordList;
-            while ((recordList = csvReader.readNext()) != null) {
-                int currentId = parseRecordIdForGeneration(recordList);
-                if (currentId > maxId) {
-                    maxId = currentId;
-                }
-            }
-        } catch (CsvValidationException e) {
-            throw new CsvDaoException("CSV validation error during ID generation.", e);
-        }
-        return maxId + 1;
-    }
-
     @Override
     public void saveList(ListBean list, UserBean user) throws ExceptionDao {
         int listId = list.getId();
         if (listId == 0) {
             try {
-                listId = generateNewListId();
+                listId = ID_SEQUENCE.next();
                 list.setId(listId);
-            } catch (IOException | CsvDaoException e) {
+            } catch (IOException e) {
                 throw new ExceptionDao("Failed to generate a new ID for the list.", e);
             }
         }
 
-        synchronized (localCache) {
-            if (localCache.containsKey(listId)) {
-                throw new ExceptionDao("List with ID " + listId + " already in cache.");
-            }
+        if (localCache.containsKey(listId)) {
+            throw new ExceptionDao("List with ID " + listId + " already in cache.");
         }
 
-        ListBean existingList = null;
         try {
-            existingList = retrieveByIdFromFile(listId);
-        } catch (IOException | NumberFormatException e) {
-            throw new ExceptionDao("Failed to check existing list for ID: " + listId + ". Data corruption or I/O error.", e);
-        } catch (CsvDaoException e) {
-            throw new ExceptionDao("CSV data validation error while checking existing list for ID: " + listId, e);
-        }
-
-        if (existingList != null) {
-            throw new ExceptionDao("List with ID " + listId + " already exists in CSV file.");
-        }
-
-        try {
-            saveListToFile(list);
+            ID_SEQUENCE.advanceTo(listId);
+            if (!saveListToFile(list)) {
+                throw new ExceptionDao("List with ID " + listId + " already exists in CSV file.");
+            }
         } catch (IOException e) {
             throw new ExceptionDao("Failed to save list to CSV for ID: " + listId + ". I/O error.", e);
         }
 
-        synchronized (localCache) {
-            localCache.put(listId, list);
-        }
+        indexUsername(list);
+        localCache.put(listId, list);
     }
 
-    private void saveListToFile(ListBean list) throws IOException {
-        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-            String[] recordList = {
-                    String.valueOf(list.getId()),
-                    list.getName(),
-                    list.getUsername()
-            };
-            csvWriter.writeNext(recordList);
-        }
+    private boolean saveListToFile(ListBean list) throws IOException {
+        String[] recordList = {
+                String.valueOf(list.getId()),
+                list.getName(),
+                list.getUsername()
+        };
+        return OFFSET_INDEX.appendIfAbsent(recordList[0], recordList);
     }
 
     @Override
     public void deleteList(ListBean list) throws ExceptionDao {
-        synchronized (localCache) {
-            localCache.remove(list.getId());
-        }
+        localCache.remove(list.getId());
 
         try {
             deleteListFromFile(list);
@@ -212,88 +181,101 @@ public class ListDaoCsv implements ListDao {
     }
 
     private void deleteListFromFile(ListBean list) throws IOException {
-        Path originalPath = Paths.get(CSV_FILE_NAME);
-        Path tempPath = Paths.get(CSV_FILE_NAME + ".tmp");
-
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(originalPath));
-             CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(tempPath))) {
+        OFFSET_INDEX.appendTombstone(String.valueOf(list.getId()));
+        unindexUsername(list);
+    }
 
-            String[] recordList;
-            while ((recordList = csvReader.readNext()) != null) {
-                if (recordList.length < 1) {
-                    csvWriter.writeNext(recordList);
-                    continue;
-                }
-                processListRecordForDeletion(recordList, list.getId(), csvWriter);
-            }
-        } catch (CsvValidationException e) {
-            throw new CsvDaoException("CSV validation error during deleteListFromFile.", e);
+    private static void indexUsername(ListBean list) {
+        if (list.getUsername() != null) {
+            LIST_IDS_BY_USERNAME.computeIfAbsent(list.getUsername(), username -> new ConcurrentSkipListSet<>()).add(list.getId());
         }
-
-        Files.move(tempPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
     }
 
-    private void processListRecordForDeletion(String[] recordList, int listIdToDelete, CSVWriter csvWriter) {
-        try {
-            if (Integer.parseInt(recordList[0]) != listIdToDelete) {
-                csvWriter.writeNext(recordList);
+    private static void unindexUsername(ListBean list) {
+        if (list.getUsername() != null) {
+            Set<Integer> listIds = LIST_IDS_BY_USERNAME.get(list.getUsername());
+            if (listIds != null) {
+                listIds.remove(list.getId());
+            }
+        } else {
+            for (Set<Integer> listIds : LIST_IDS_BY_USERNAME.values()) {
+                listIds.remove(list.getId());
             }
-        } catch (NumberFormatException e) {
-            LOGGER.log(Level.WARNING, "Skipping removal for malformed list record in CSV due to invalid ID format. Record will be preserved. Record: {0}, Error: {1}",
-                    new Object[]{Arrays.toString(recordList), e.getMessage()});
-            csvWriter.writeNext(recordList);
         }
     }
 
     @Override
     public List<ListBean> retrieveAllListsOfUsername(String username) throws ExceptionDao {
-        List<ListBean> allLists = null;
-        try {
-            allLists = retrieveAllListsFromFile();
-        } catch (IOException | NumberFormatException e) {
-            throw new ExceptionDao("Failed to retrieve all lists from CSV. Data corruption or I/O error.", e);
-        } catch (CsvDaoException e) {
-            throw new ExceptionDao("CSV data validation error while retrieving all lists.", e);
-        }
+        Set<Integer> listIds = LIST_IDS_BY_USERNAME.getOrDefault(username, Collections.emptyNavigableSet());
 
-        List<ListBean> userLists = new ArrayList<>();
-        for (ListBean list : allLists) {
-            if (list.getUsername().equals(username)) {
+        List<ListBean> userLists = new ArrayList<>(listIds.size());
+        for (int listId : listIds) {
+            ListBean list = retrieveById(listId);
+            if (list != null) {
                 userLists.add(list);
             }
         }
+        return Collections.unmodifiableList(userLists);
+    }
 
-        synchronized (localCache) {
-            localCache.clear();
-            for (ListBean list : allLists) {
-                localCache.put(list.getId(), list);
-            }
+    @Override
+    public List<ListBean> retrieveListsOfUsername(String username, int afterListId, int pageSize) throws ExceptionDao {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
         }
+        NavigableSet<Integer> listIds = LIST_IDS_BY_USERNAME.getOrDefault(username, Collections.emptyNavigableSet());
 
+        List<ListBean> userLists = new ArrayList<>(Math.min(pageSize, listIds.size()));
+        for (int listId : listIds.tailSet(afterListId, false)) {
+            if (userLists.size() == pageSize) {
+                break;
+            }
+            ListBean list = retrieveById(listId);
+            if (list != null) {
+                userLists.add(list);
+            }
+        }
         return Collections.unmodifiableList(userLists);
     }
 
-    private List<ListBean> retrieveAllListsFromFile() throws IOException, NumberFormatException {
-        List<ListBean> listModels = new ArrayList<>();
+    private static List<ListBean> retrieveAllListsFromFile() throws IOException, NumberFormatException {
+        return CsvFileLocks.withReadLock(Paths.get(CSV_FILE_NAME), ListDaoCsv::readAllLists);
+    }
+
+    private static List<ListBean> readAllLists() throws IOException, NumberFormatException {
+        Map<Integer, ListBean> listModels = new LinkedHashMap<>();
         try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
             String[] recordList;
             while ((recordList = csvReader.readNext()) != null) {
+                if (CsvTombstone.isTombstone(recordList, 1)) {
+                    removeTombstonedList(recordList, listModels);
+                    continue;
+                }
                 if (recordList.length < 3) {
                     LOGGER.log(Level.WARNING, "Skipping malformed record in CSV during retrieveAllListsFromFile: not enough columns. Record: {0}", Arrays.toString(recordList));
                     continue;
                 }
                 ListBean parsedList = parseListRecord(recordList);
                 if (parsedList != null) {
-                    listModels.add(parsedList);
+                    listModels.putIfAbsent(parsedList.getId(), parsedList);
                 }
             }
         } catch (CsvValidationException e) {
             throw new CsvDaoException("CSV validation error during retrieveAllListsFromFile.", e);
         }
-        return listModels;
+        return new ArrayList<>(listModels.values());
+    }
+
+    private static void removeTombstonedList(String[] tombstone, Map<Integer, ListBean> listModels) {
+        try {
+            listModels.remove(Integer.parseInt(tombstone[0]));
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Skipping malformed list tombstone in CSV due to invalid ID format. Record: {0}, Error: {1}",
+                    new Object[]{Arrays.toString(tombstone), e.getMessage()});
+        }
     }
 
-    private ListBean parseListRecord(String[] recordList) {
+    private static ListBean parseListRecord(String[] recordList) {
         try {
             return new ListBean(Integer.parseInt(recordList[0]), recordList[1], recordList[2]);
         } catch (NumberFormatException e) {
@@ -1,7 +1,6 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.ListBean;
 import ispw.project.project_ispw.bean.MovieBean;
@@ -13,11 +12,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,131 +28,142 @@ public class ListMovieDaoCsv implements ListMovie {
 
     private static final Logger LOGGER = Logger.getLogger(ListMovieDaoCsv.class.getName());
 
-    private static final String CSV_FILE_NAME;
-    private static final String MOVIE_CSV_FILE_NAME;
-
-    static {
-        Properties properties = new Properties();
-        String listMovieFileName = "list_movie.csv";
-        String movieFileName = "movie.csv";
-
-        try (InputStream input = ListMovieDaoCsv.class.getClassLoader().getResourceAsStream("csv.properties")) {
-            if (input != null) {
-                properties.load(input);
-                listMovieFileName = properties.getProperty("list_movie.csv.filename", listMovieFileName);
-                movieFileName = properties.getProperty("movie.csv.filename", movieFileName);
-            } else {
-                LOGGER.log(Level.WARNING, "csv.properties file not found. Using default CSV filenames: list_movie.csv=''{0}'', movie.csv=''{1}''",
-                        new Object[]{listMovieFileName, movieFileName});
+    private final String movieCsvFileName;
+    private final CsvMembershipFile membershipFile;
+
+    // The configured files, opened on first use of the public constructor so that nothing touches them otherwise.
+    private static final class DefaultFiles {
+        private static final String CSV_FILE_NAME;
+        private static final String MOVIE_CSV_FILE_NAME;
+
+        private static final CsvMembershipFile MEMBERSHIP_FILE;
+
+        static {
+            Properties properties = new Properties();
+            String listMovieFileName = "list_movie.csv";
+            String movieFileName = "movie.csv";
+
+            try (InputStream input = ListMovieDaoCsv.class.getClassLoader().getResourceAsStream("csv.properties")) {
+                if (input != null) {
+                    properties.load(input);
+                    listMovieFileName = properties.getProperty("list_movie.csv.filename", listMovieFileName);
+                    movieFileName = properties.getProperty("movie.csv.filename", movieFileName);
+                } else {
+                    LOGGER.log(Level.WARNING, "csv.properties file not found. Using default CSV filenames: list_movie.csv=''{0}'', movie.csv=''{1}''",
+                            new Object[]{listMovieFileName, movieFileName});
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load csv.properties. Using default CSV filenames: list_movie.csv=''{0}'', movie.csv=''{1}''. Error: {2}",
+                        new Object[]{listMovieFileName, movieFileName, e.getMessage()});
             }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to load csv.properties. Using default CSV filenames: list_movie.csv=''{0}'', movie.csv=''{1}''. Error: {2}",
-                    new Object[]{listMovieFileName, movieFileName, e.getMessage()});
-        }
 
-        CSV_FILE_NAME = listMovieFileName;
-        MOVIE_CSV_FILE_NAME = movieFileName;
+            CSV_FILE_NAME = listMovieFileName;
+            MOVIE_CSV_FILE_NAME = movieFileName;
 
-        try {
-            if (!Files.exists(Paths.get(CSV_FILE_NAME))) {
-                Files.createFile(Paths.get(CSV_FILE_NAME));
-            }
-            if (!Files.exists(Paths.get(MOVIE_CSV_FILE_NAME))) {
-                Files.createFile(Paths.get(MOVIE_CSV_FILE_NAME));
+            try {
+                if (!Files.exists(Paths.get(CSV_FILE_NAME))) {
+                    Files.createFile(Paths.get(CSV_FILE_NAME));
+                }
+                if (!Files.exists(Paths.get(MOVIE_CSV_FILE_NAME))) {
+                    Files.createFile(Paths.get(MOVIE_CSV_FILE_NAME));
+                }
+            } catch (IOException e) {
+                throw new CsvDaoException("Initialization failed: Could not create CSV files.", e);
             }
-        } catch (IOException e) {
-            throw new CsvDaoException("Initialization failed: Could not create CSV files.", e);
+            MEMBERSHIP_FILE = new CsvMembershipFile(CSV_FILE_NAME,
+                    CsvMembershipScanner.forName(CsvConfig.getString("list_movie.csv.scanner", CsvMembershipScanner.MAPPED)));
         }
     }
 
     public ListMovieDaoCsv() {
-        //Empty constructor
+        this(DefaultFiles.MOVIE_CSV_FILE_NAME, DefaultFiles.MEMBERSHIP_FILE);
+    }
+
+    /**
+     * Works on the given files instead of the configured ones; used by tests.
+     */
+    ListMovieDaoCsv(String listMovieFileName, String movieFileName) {
+        this(movieFileName, new CsvMembershipFile(listMovieFileName,
+                CsvMembershipScanner.forName(CsvConfig.getString("list_movie.csv.scanner", CsvMembershipScanner.MAPPED))));
+    }
+
+    private ListMovieDaoCsv(String movieCsvFileName, CsvMembershipFile membershipFile) {
+        this.movieCsvFileName = movieCsvFileName;
+        this.membershipFile = membershipFile;
     }
 
     @Override
     public void addMovieToList(ListBean list, MovieBean movie) throws ExceptionDao {
         try {
-            if (movieExistsInList(list, movie)) {
+            if (movieExistsInList(list, movie.getIdMovieTmdb())) {
                 throw new ExceptionDao("Movie ID " + movie.getIdMovieTmdb() + " already exists in list ID " + list.getId() + ".");
             }
+            membershipFile.add(list.getId(), movie.getIdMovieTmdb());
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to add movie to list in CSV. I/O or data error.", e);
+        }
+    }
 
-            try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-                String[] recordListMovie = {String.valueOf(list.getId()), String.valueOf(movie.getIdMovieTmdb())};
-                csvWriter.writeNext(recordListMovie);
+    @Override
+    public void addMoviesToList(ListBean list, Collection<MovieBean> movies) throws ExceptionDao {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (MovieBean movie : movies) {
+            if (!ids.add(movie.getIdMovieTmdb())) {
+                throw new ExceptionDao("Movie ID " + movie.getIdMovieTmdb() + " appears more than once in the batch for list ID " + list.getId() + ".");
             }
+            if (movieExistsInList(list, movie.getIdMovieTmdb())) {
+                throw new ExceptionDao("Movie ID " + movie.getIdMovieTmdb() + " already exists in list ID " + list.getId() + ".");
+            }
+        }
+        try {
+            membershipFile.addAll(list.getId(), ids);
         } catch (IOException e) {
-            throw new ExceptionDao("Failed to add movie to list in CSV. I/O or data error.", e);
+            throw new ExceptionDao("Failed to add movies to list in CSV. I/O or data error.", e);
         }
     }
 
     @Override
     public void removeMovieFromList(ListBean list, MovieBean movie) throws ExceptionDao {
-        java.nio.file.Path originalPath = Paths.get(CSV_FILE_NAME);
-        java.nio.file.Path tempPath = Paths.get(CSV_FILE_NAME + ".tmp");
-        List<String[]> allRecords = new ArrayList<>();
-
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(originalPath));
-             CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(tempPath))) {
-
-            if (!movieExistsInList(list, movie)) {
-                throw new ExceptionDao("Movie ID " + movie.getIdMovieTmdb() + " not found in list ID " + list.getId() + ".");
-            }
+        removeMovieFromList(list, movie.getIdMovieTmdb());
+    }
 
-            String[] recordListMovie;
-            while ((recordListMovie = csvReader.readNext()) != null) {
-                if (recordListMovie.length < 2) {
-                    continue;
-                }
-                if (!(recordListMovie[0].equals(String.valueOf(list.getId())) && recordListMovie[1].equals(String.valueOf(movie.getIdMovieTmdb())))) {
-                    allRecords.add(recordListMovie);
-                }
+    @Override
+    public void removeMovieFromList(ListBean list, int movieId) throws ExceptionDao {
+        try {
+            if (!movieExistsInList(list, movieId)) {
+                throw new ExceptionDao("Movie ID " + movieId + " not found in list ID " + list.getId() + ".");
             }
-            csvWriter.writeAll(allRecords);
-            Files.move(tempPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
-
-        } catch (IOException | CsvValidationException e) {
+            membershipFile.remove(list.getId(), movieId);
+        } catch (IOException e) {
             throw new ExceptionDao("Failed to remove movie from list in CSV. I/O or data error.", e);
         }
     }
 
     @Override
     public List<MovieBean> getAllMoviesInList(ListBean list) throws ExceptionDao {
-        List<MovieBean> movieList = new ArrayList<>();
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordListMovie;
-            while ((recordListMovie = csvReader.readNext()) != null) {
-                if (recordListMovie.length < 2) {
-                    continue;
-                }
-                if (recordListMovie[0].equals(String.valueOf(list.getId()))) {
-                    MovieBean movie = processListMovieRecordAndFetchMovie(recordListMovie, list.getId());
-                    if (movie != null) {
-                        movieList.add(movie);
-                    }
-                }
-            }
+        List<Integer> movieIds;
+        try {
+            movieIds = membershipFile.itemIdsOf(list.getId());
         } catch (IOException | CsvValidationException e) {
             throw new ExceptionDao("Failed to retrieve all movies for list from CSV. Data corruption or I/O error.", e);
         }
 
-        return movieList;
-    }
+        List<MovieBean> movieList = new ArrayList<>();
+        if (movieIds.isEmpty()) {
+            return movieList;
+        }
 
-    private MovieBean processListMovieRecordAndFetchMovie(String[] recordListMovie, int listId) throws ExceptionDao {
-        try {
-            int movieId = Integer.parseInt(recordListMovie[1]);
-            MovieBean movie = fetchMovieById(movieId);
+        Map<Integer, MovieBean> moviesById = fetchMoviesByIds(new HashSet<>(movieIds));
+        for (int movieId : movieIds) {
+            MovieBean movie = moviesById.get(movieId);
             if (movie != null) {
-                return movie;
+                movieList.add(movie);
             } else {
-                LOGGER.log(Level.WARNING, "Movie with ID {0} found in list ID {1}, but details not found in movie.csv. Skipping this entry. Record: {2}",
-                        new Object[]{movieId, listId, java.util.Arrays.toString(recordListMovie)});
+                LOGGER.log(Level.WARNING, "Movie with ID {0} found in list ID {1}, but details not found in movie.csv. Skipping this entry.",
+                        new Object[]{movieId, list.getId()});
             }
-        } catch (NumberFormatException e) {
-            LOGGER.log(Level.WARNING, "Skipping malformed list-movie record in CSV due to invalid movie ID format. Record: {0}, Error: {1}",
-                    new Object[]{java.util.Arrays.toString(recordListMovie), e.getMessage()});
         }
-        return null;
+        return movieList;
     }
 
     @Override
@@ -158,69 +172,60 @@ public class ListMovieDaoCsv implements ListMovie {
             throw new IllegalArgumentException("List cannot be null.");
         }
 
-        java.nio.file.Path originalPath = Paths.get(CSV_FILE_NAME);
-        java.nio.file.Path tempPath = Paths.get(CSV_FILE_NAME + ".tmp");
-        List<String[]> allRecordsToKeep = new ArrayList<>();
-
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(originalPath));
-             CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(tempPath))) {
-
-            String[] recordListMovie;
-            while ((recordListMovie = csvReader.readNext()) != null) {
-                if (recordListMovie.length < 2) {
-                    continue;
-                }
-                if (!recordListMovie[0].equals(String.valueOf(list.getId()))) {
-                    allRecordsToKeep.add(recordListMovie);
-                }
-            }
-            csvWriter.writeAll(allRecordsToKeep);
-            Files.move(tempPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
+        try {
+            membershipFile.removeAll(list.getId());
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to remove all movies from list in CSV. I/O or data error.", e);
+        }
+    }
 
+    CsvRuntimeTotals runtimeTotalsOf(ListBean list) throws ExceptionDao {
+        try {
+            return CsvRuntimeTotals.sum(movieCsvFileName, membershipFile.itemIdsOf(list.getId()), 3,
+                    recordMovie -> Long.parseLong(recordMovie[1]));
         } catch (IOException | CsvValidationException e) {
-            throw new ExceptionDao("Failed to remove all movies from list in CSV. I/O or data error.", e);
+            throw new ExceptionDao("Failed to sum movie runtimes for list from CSV. I/O or data error.", e);
         }
     }
 
-    private boolean movieExistsInList(ListBean list, MovieBean movie) throws ExceptionDao {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordListMovie;
-            while ((recordListMovie = csvReader.readNext()) != null) {
-                if (recordListMovie.length < 2) {
-                    continue;
-                }
-                if (recordListMovie[0].equals(String.valueOf(list.getId())) && recordListMovie[1].equals(String.valueOf(movie.getIdMovieTmdb()))) {
-                    return true;
-                }
-            }
+    private boolean movieExistsInList(ListBean list, int movieId) throws ExceptionDao {
+        try {
+            return membershipFile.contains(list.getId(), movieId);
         } catch (IOException | CsvValidationException e) {
             throw new ExceptionDao("Failed to check movie existence in list from CSV. I/O or data error.", e);
         }
-        return false;
     }
 
-    private MovieBean fetchMovieById(int id) throws ExceptionDao {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(MOVIE_CSV_FILE_NAME)))) {
+    private Map<Integer, MovieBean> fetchMoviesByIds(Set<Integer> movieIds) throws ExceptionDao {
+        try {
+            CsvWriteBehindQueue.getInstance().flush();
+            return CsvFileLocks.withReadLock(Paths.get(movieCsvFileName), () -> scanMoviesByIds(movieIds));
+        } catch (IOException | CsvValidationException e) {
+            throw new ExceptionDao("Failed to fetch movie details from main movie CSV file. I/O or data error.", e);
+        }
+    }
+
+    private Map<Integer, MovieBean> scanMoviesByIds(Set<Integer> movieIds) throws IOException, CsvValidationException {
+        Map<Integer, MovieBean> moviesById = new HashMap<>(movieIds.size() * 2);
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(movieCsvFileName)))) {
             String[] recordMovie;
-            while ((recordMovie = csvReader.readNext()) != null) {
+            while ((recordMovie = csvReader.readNext()) != null && moviesById.size() < movieIds.size()) {
                 if (recordMovie.length < 3) {
                     continue;
                 }
-                MovieBean movie = parseAndMatchMovieRecord(recordMovie, id);
+                MovieBean movie = parseAndMatchMovieRecord(recordMovie, movieIds);
                 if (movie != null) {
-                    return movie;
+                    moviesById.putIfAbsent(movie.getIdMovieTmdb(), movie);
                 }
             }
-        } catch (IOException | CsvValidationException e) {
-            throw new ExceptionDao("Failed to fetch movie details from main movie CSV file. I/O or data error.", e);
         }
-        return null;
+        return moviesById;
     }
 
-    private MovieBean parseAndMatchMovieRecord(String[] recordMovie, int targetId) {
+    private MovieBean parseAndMatchMovieRecord(String[] recordMovie, Set<Integer> targetIds) {
         try {
             int currentId = Integer.parseInt(recordMovie[0]);
-            if (currentId == targetId) {
+            if (targetIds.contains(currentId)) {
                 int runtime = Integer.parseInt(recordMovie[1]);
                 String title = recordMovie[2];
                 return new MovieBean(currentId, runtime, title);
@@ -0,0 +1,34 @@
+package ispw.project.project_ispw.dao.csv;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.dao.ListStatsDao;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+public class ListStatsDaoCsv implements ListStatsDao {
+
+    private final ListMovieDaoCsv listMovieDao;
+    private final ListTvSeriesDaoCsv listTvSeriesDao;
+    private final ListAnimeDaoCsv listAnimeDao;
+
+    public ListStatsDaoCsv(ListMovieDaoCsv listMovieDao, ListTvSeriesDaoCsv listTvSeriesDao, ListAnimeDaoCsv listAnimeDao) {
+        this.listMovieDao = listMovieDao;
+        this.listTvSeriesDao = listTvSeriesDao;
+        this.listAnimeDao = listAnimeDao;
+    }
+
+    @Override
+    public ListStats getListStats(ListBean list) throws ExceptionDao {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null.");
+        }
+
+        CsvRuntimeTotals movies = listMovieDao.runtimeTotalsOf(list);
+        CsvRuntimeTotals tvSeries = listTvSeriesDao.runtimeTotalsOf(list);
+        CsvRuntimeTotals anime = listAnimeDao.runtimeTotalsOf(list);
+
+        return new ListStats(movies.getCount(), movies.getMinutes(),
+                tvSeries.getCount(), tvSeries.getMinutes(),
+                anime.getCount(), anime.getMinutes());
+    }
+}
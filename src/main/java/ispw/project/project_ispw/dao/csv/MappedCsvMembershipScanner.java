@@ -0,0 +1,175 @@
+package ispw.project.project_ispw.dao.csv;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reads a membership file through a read-only memory mapping and parses the id columns straight from the bytes,
+ * so rows belonging to other lists are skipped without allocating anything.
+ * The mapping lives in a confined arena and is unmapped as soon as the scan ends, so it never keeps the file
+ * locked against the rename done by {@link CsvMembershipFile#compact()}.
+ * Ids are matched the way {@link OpenCsvMembershipScanner} matches them, as strings: a row keyed {@code 007}
+ * does not belong to list {@code 7}, and an item written as {@code 007} is not removed by a tombstone for {@code 7}.
+ */
+public class MappedCsvMembershipScanner implements CsvMembershipScanner {
+
+    private static final long NOT_CANONICAL = Long.MIN_VALUE;
+
+    private static final byte[] MARKER = CsvTombstone.MARKER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALL_ITEMS = CsvTombstone.ALL_ITEMS.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public Set<Integer> liveItemIds(Path path, int listId) throws IOException {
+        byte[] listKey = String.valueOf(listId).getBytes(StandardCharsets.UTF_8);
+        // Items in canonical decimal form are kept as Integer; anything else keeps its raw text, like the opencsv path.
+        Set<Object> liveItems = new LinkedHashSet<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            long size = channel.size();
+            if (size == 0) {
+                return new LinkedHashSet<>();
+            }
+
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            long position = 0;
+            while (position < size) {
+                long lineEnd = indexOf(segment, (byte) '\n', position, size);
+                if (lineEnd < 0) {
+                    lineEnd = size;
+                }
+                applyLine(segment, position, lineEnd, listKey, liveItems);
+                position = lineEnd + 1;
+            }
+        }
+        return toItemIds(liveItems);
+    }
+
+    private static void applyLine(MemorySegment segment, long start, long end, byte[] listKey, Set<Object> liveItems) {
+        long firstComma = indexOf(segment, (byte) ',', start, end);
+        if (firstComma < 0 || !fieldEquals(segment, start, firstComma, listKey)) {
+            return;
+        }
+
+        long secondComma = indexOf(segment, (byte) ',', firstComma + 1, end);
+        long itemEnd = secondComma < 0 ? end : secondComma;
+        boolean tombstone = secondComma >= 0
+                && indexOf(segment, (byte) ',', secondComma + 1, end) < 0
+                && fieldEquals(segment, secondComma + 1, end, MARKER);
+
+        if (tombstone && fieldEquals(segment, firstComma + 1, itemEnd, ALL_ITEMS)) {
+            liveItems.clear();
+            return;
+        }
+
+        Object itemKey = itemKey(segment, firstComma + 1, itemEnd);
+        if (tombstone) {
+            liveItems.remove(itemKey);
+        } else {
+            liveItems.add(itemKey);
+        }
+    }
+
+    private static Set<Integer> toItemIds(Set<Object> liveItems) {
+        Set<Integer> itemIds = new LinkedHashSet<>();
+        for (Object itemKey : liveItems) {
+            if (itemKey instanceof Integer itemId) {
+                itemIds.add(itemId);
+            } else {
+                try {
+                    itemIds.add(Integer.parseInt((String) itemKey));
+                } catch (NumberFormatException e) {
+                    // Malformed item id: skipped, as the opencsv path does.
+                }
+            }
+        }
+        return itemIds;
+    }
+
+    private static Object itemKey(MemorySegment segment, long start, long end) {
+        long from = fieldStart(segment, start, end);
+        long to = fieldEnd(segment, from, end);
+        long value = parseCanonicalInt(segment, from, to);
+        if (value != NOT_CANONICAL) {
+            return (int) value;
+        }
+        byte[] raw = segment.asSlice(from, to - from).toArray(ValueLayout.JAVA_BYTE);
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private static long indexOf(MemorySegment segment, byte target, long from, long to) {
+        for (long i = from; i < to; i++) {
+            if (segment.get(ValueLayout.JAVA_BYTE, i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long fieldStart(MemorySegment segment, long start, long end) {
+        return start < end && segment.get(ValueLayout.JAVA_BYTE, start) == '"' ? start + 1 : start;
+    }
+
+    private static long fieldEnd(MemorySegment segment, long start, long end) {
+        long trimmedEnd = end;
+        if (trimmedEnd > start && segment.get(ValueLayout.JAVA_BYTE, trimmedEnd - 1) == '\r') {
+            trimmedEnd--;
+        }
+        if (trimmedEnd > start && segment.get(ValueLayout.JAVA_BYTE, trimmedEnd - 1) == '"') {
+            trimmedEnd--;
+        }
+        return trimmedEnd;
+    }
+
+    private static boolean fieldEquals(MemorySegment segment, long start, long end, byte[] expected) {
+        long from = fieldStart(segment, start, end);
+        long to = fieldEnd(segment, from, end);
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (segment.get(ValueLayout.JAVA_BYTE, from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the field only if it is exactly what {@link String#valueOf(int)} would print, so equal values always
+     * mean equal text. Returns {@link #NOT_CANONICAL} for leading zeros, signs other than a single minus,
+     * whitespace, {@code -0} and out-of-range values.
+     */
+    private static long parseCanonicalInt(MemorySegment segment, long from, long to) {
+        if (from >= to) {
+            return NOT_CANONICAL;
+        }
+
+        boolean negative = segment.get(ValueLayout.JAVA_BYTE, from) == '-';
+        long i = negative ? from + 1 : from;
+        if (i >= to || (segment.get(ValueLayout.JAVA_BYTE, i) == '0' && (negative || to - i > 1))) {
+            return NOT_CANONICAL;
+        }
+
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = segment.get(ValueLayout.JAVA_BYTE, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_CANONICAL;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_CANONICAL;
+            }
+        }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? NOT_CANONICAL : value;
+    }
+}
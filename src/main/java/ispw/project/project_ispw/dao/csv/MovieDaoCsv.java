@@ -1,9 +1,9 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.cache.EntityCache;
 import ispw.project.project_ispw.dao.MovieDao;
 import ispw.project.project_ispw.exception.CsvDaoException;
 import ispw.project.project_ispw.exception.ExceptionDao;
@@ -12,10 +12,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
 import java.util.logging.Level;
@@ -27,7 +25,9 @@ public class MovieDaoCsv implements MovieDao {
 
     private static final String CSV_FILE_NAME;
 
-    private final HashMap<Integer, MovieBean> localCache;
+    private static final CsvOffsetIndex OFFSET_INDEX;
+
+    private final EntityCache<Integer, MovieBean> localCache;
 
     static {
         Properties properties = new Properties();
@@ -52,18 +52,18 @@ public class MovieDaoCsv implements MovieDao {
         } catch (IOException e) {
             throw new CsvDaoException("Initialization failed: Could not create CSV file for movies.", e);
         }
+        OFFSET_INDEX = new CsvOffsetIndex(CSV_FILE_NAME);
     }
 
     public MovieDaoCsv() {
-        this.localCache = new HashMap<>();
+        this.localCache = new EntityCache<>(CsvConfig.getInt("csv.cache.max.size", 1000));
     }
 
     @Override
     public MovieBean retrieveById(int id) throws ExceptionDao {
-        synchronized (localCache) {
-            if (localCache.containsKey(id)) {
-                return localCache.get(id);
-            }
+        MovieBean cached = localCache.get(id);
+        if (cached != null) {
+            return cached;
         }
 
         MovieBean movie = null;
@@ -76,30 +76,21 @@ public class MovieDaoCsv implements MovieDao {
         }
 
         if (movie != null) {
-            synchronized (localCache) {
-                localCache.put(id, movie);
-            }
+            localCache.put(id, movie);
         }
         return movie;
     }
 
     private MovieBean retrieveByIdFromFile(int id) throws IOException, CsvValidationException {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordMovie;
-            while ((recordMovie = csvReader.readNext()) != null) {
-                if (recordMovie.length < 3) {
-                    continue;
-                }
-                try {
-                    int currentId = Integer.parseInt(recordMovie[0]);
-                    if (currentId == id) {
-                        return new MovieBean(currentId, Integer.parseInt(recordMovie[1]), recordMovie[2]);
-                    }
-                } catch (NumberFormatException e) {
-                    LOGGER.log(Level.WARNING, "Skipping malformed movie record during retrieveByIdFromFile due to invalid ID/runtime format. Record: {0}, Error: {1}",
-                            new Object[]{java.util.Arrays.toString(recordMovie), e.getMessage()});
-                }
-            }
+        String[] recordMovie = OFFSET_INDEX.retrieve(String.valueOf(id));
+        if (recordMovie == null || recordMovie.length < 3) {
+            return null;
+        }
+        try {
+            return new MovieBean(Integer.parseInt(recordMovie[0]), Integer.parseInt(recordMovie[1]), recordMovie[2]);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Skipping malformed movie record during retrieveByIdFromFile due to invalid ID/runtime format. Record: {0}, Error: {1}",
+                    new Object[]{java.util.Arrays.toString(recordMovie), e.getMessage()});
         }
         return null;
     }
@@ -108,41 +99,44 @@ public class MovieDaoCsv implements MovieDao {
     public void saveMovie(MovieBean movie) throws ExceptionDao {
         int movieId = movie.getIdMovieTmdb();
 
-        synchronized (localCache) {
-            if (localCache.containsKey(movieId)) {
-                throw new ExceptionDao("Duplicated Movie ID already in cache: " + movieId);
-            }
+        if (localCache.containsKey(movieId)) {
+            throw new ExceptionDao("Duplicated Movie ID already in cache: " + movieId);
         }
 
-        MovieBean existingMovie = null;
         try {
-            existingMovie = retrieveByIdFromFile(movieId);
-        } catch (IOException | CsvValidationException e) {
-            throw new ExceptionDao("Failed to check existing movie for ID: " + movieId + ". I/O error.", e);
-        } catch (NumberFormatException e) {
-            throw new ExceptionDao("Data corruption while checking existing movie for ID: " + movieId + ". Invalid number format.", e);
+            if (!saveMovieToFile(movie)) {
+                throw new ExceptionDao("Duplicated Movie ID already exists in CSV file: " + movieId);
+            }
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to save movie to CSV for ID: " + movieId + ". I/O error.", e);
         }
 
-        if (existingMovie != null) {
-            throw new ExceptionDao("Duplicated Movie ID already exists in CSV file: " + movieId);
+        localCache.put(movieId, movie);
+    }
+
+    @Override
+    public void upsertMovie(MovieBean movie) throws ExceptionDao {
+        int id = movie.getIdMovieTmdb();
+        if (localCache.containsKey(id)) {
+            return;
         }
 
         try {
-            saveMovieToFile(movie);
+            if (OFFSET_INDEX.appendIfAbsent(String.valueOf(id), recordOf(movie))) {
+                localCache.put(id, movie);
+            }
         } catch (IOException e) {
-            throw new ExceptionDao("Failed to save movie to CSV for ID: " + movieId + ". I/O error.", e);
+            throw new ExceptionDao("Failed to upsert movie to CSV for ID: " + id + ". I/O error.", e);
         }
+    }
 
-        synchronized (localCache) {
-            localCache.put(movieId, movie);
-        }
+    private boolean saveMovieToFile(MovieBean movie) throws IOException {
+        String[] recordMovie = recordOf(movie);
+        return OFFSET_INDEX.appendIfAbsent(recordMovie[0], recordMovie);
     }
 
-    private void saveMovieToFile(MovieBean movie) throws IOException {
-        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-            String[] recordMovie = {String.valueOf(movie.getIdMovieTmdb()), String.valueOf(movie.getRuntime()), movie.getTitle()};
-            csvWriter.writeNext(recordMovie);
-        }
+    private static String[] recordOf(MovieBean movie) {
+        return new String[]{String.valueOf(movie.getIdMovieTmdb()), String.valueOf(movie.getRuntime()), movie.getTitle()};
     }
 
     @Override
@@ -158,17 +152,20 @@ public class MovieDaoCsv implements MovieDao {
             throw new ExceptionDao("Data corruption while retrieving all movies. Invalid number format.", e);
         }
 
-        synchronized (localCache) {
-            localCache.clear();
-            for (MovieBean movie : movieList) {
-                localCache.put(movie.getIdMovieTmdb(), movie);
-            }
+        localCache.clear();
+        for (MovieBean movie : movieList) {
+            localCache.put(movie.getIdMovieTmdb(), movie);
         }
 
         return Collections.unmodifiableList(movieList);
     }
 
     private List<MovieBean> retrieveAllMoviesFromFile() throws IOException, CsvValidationException {
+        CsvWriteBehindQueue.getInstance().flush();
+        return CsvFileLocks.withReadLock(Paths.get(CSV_FILE_NAME), this::readAllMovies);
+    }
+
+    private List<MovieBean> readAllMovies() throws IOException, CsvValidationException {
         List<MovieBean> movieList = new ArrayList<>();
         try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
             String[] recordMovie;
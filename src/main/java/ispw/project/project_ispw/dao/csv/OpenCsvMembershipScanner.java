@@ -0,0 +1,42 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class OpenCsvMembershipScanner implements CsvMembershipScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(OpenCsvMembershipScanner.class.getName());
+
+    @Override
+    public Set<Integer> liveItemIds(Path path, int listId) throws IOException, CsvValidationException {
+        String listKey = String.valueOf(listId);
+        Set<String> liveItems = new LinkedHashSet<>();
+        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(path))) {
+            String[] recordCsv;
+            while ((recordCsv = csvReader.readNext()) != null) {
+                if (recordCsv.length >= CsvMembershipFile.KEY_COLUMNS && recordCsv[0].equals(listKey)) {
+                    CsvMembershipFile.applyRecord(recordCsv, liveItems);
+                }
+            }
+        }
+
+        Set<Integer> itemIds = new LinkedHashSet<>();
+        for (String itemKey : liveItems) {
+            try {
+                itemIds.add(Integer.parseInt(itemKey));
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Skipping malformed record in {0} due to invalid item ID format. List ID: {1}, Item: {2}",
+                        new Object[]{path, listId, itemKey});
+            }
+        }
+        return itemIds;
+    }
+}
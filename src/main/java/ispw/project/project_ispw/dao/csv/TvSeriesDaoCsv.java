@@ -1,9 +1,9 @@
 package ispw.project.project_ispw.dao.csv;
 
 import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.cache.EntityCache;
 import ispw.project.project_ispw.dao.TvSeriesDao;
 import ispw.project.project_ispw.exception.CsvDaoException;
 import ispw.project.project_ispw.exception.ExceptionDao;
@@ -12,10 +12,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
 import java.util.logging.Level;
@@ -27,7 +25,9 @@ public class TvSeriesDaoCsv implements TvSeriesDao {
 
     private static final String CSV_FILE_NAME;
 
-    private final HashMap<Integer, TvSeriesBean> localCache;
+    private static final CsvOffsetIndex OFFSET_INDEX;
+
+    private final EntityCache<Integer, TvSeriesBean> localCache;
 
     static {
         Properties properties = new Properties();
@@ -52,18 +52,18 @@ public class TvSeriesDaoCsv implements TvSeriesDao {
         } catch (IOException e) {
             throw new CsvDaoException("Initialization failed: Could not create CSV file for TV series.", e);
         }
+        OFFSET_INDEX = new CsvOffsetIndex(CSV_FILE_NAME);
     }
 
     public TvSeriesDaoCsv() {
-        this.localCache = new HashMap<>();
+        this.localCache = new EntityCache<>(CsvConfig.getInt("csv.cache.max.size", 1000));
     }
 
     @Override
     public TvSeriesBean retrieveById(int id) throws ExceptionDao {
-        synchronized (localCache) {
-            if (localCache.containsKey(id)) {
-                return localCache.get(id);
-            }
+        TvSeriesBean cached = localCache.get(id);
+        if (cached != null) {
+            return cached;
         }
 
         TvSeriesBean tvSeries = null;
@@ -76,30 +76,21 @@ public class TvSeriesDaoCsv implements TvSeriesDao {
         }
 
         if (tvSeries != null) {
-            synchronized (localCache) {
-                localCache.put(id, tvSeries);
-            }
+            localCache.put(id, tvSeries);
         }
         return tvSeries;
     }
 
     private TvSeriesBean retrieveByIdFromFile(int id) throws IOException, CsvValidationException {
-        try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
-            String[] recordTvSeries;
-            while ((recordTvSeries = csvReader.readNext()) != null) {
-                if (recordTvSeries.length < 4) {
-                    continue;
-                }
-                try {
-                    int currentId = Integer.parseInt(recordTvSeries[0]);
-                    if (currentId == id) {
-                        return new TvSeriesBean(currentId, Integer.parseInt(recordTvSeries[1]), Integer.parseInt(recordTvSeries[2]), recordTvSeries[3]);
-                    }
-                } catch (NumberFormatException e) {
-                    LOGGER.log(Level.WARNING, "Skipping malformed TV Series record during retrieveByIdFromFile due to invalid ID/runtime/episodes format. Record: {0}, Error: {1}",
-                            new Object[]{java.util.Arrays.toString(recordTvSeries), e.getMessage()});
-                }
-            }
+        String[] recordTvSeries = OFFSET_INDEX.retrieve(String.valueOf(id));
+        if (recordTvSeries == null || recordTvSeries.length < 4) {
+            return null;
+        }
+        try {
+            return new TvSeriesBean(Integer.parseInt(recordTvSeries[0]), Integer.parseInt(recordTvSeries[1]), Integer.parseInt(recordTvSeries[2]), recordTvSeries[3]);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Skipping malformed TV Series record during retrieveByIdFromFile due to invalid ID/runtime/episodes format. Record: {0}, Error: {1}",
+                    new Object[]{java.util.Arrays.toString(recordTvSeries), e.getMessage()});
         }
         return null;
     }
@@ -108,48 +99,51 @@ public class TvSeriesDaoCsv implements TvSeriesDao {
     public boolean saveTvSeries(TvSeriesBean tvSeries) throws ExceptionDao {
         int tvSeriesId = tvSeries.getIdTvSeriesTmdb();
 
-        synchronized (localCache) {
-            if (localCache.containsKey(tvSeriesId)) {
-                throw new ExceptionDao("Duplicated TV Series ID already in cache: " + tvSeriesId);
-            }
+        if (localCache.containsKey(tvSeriesId)) {
+            throw new ExceptionDao("Duplicated TV Series ID already in cache: " + tvSeriesId);
         }
 
-        TvSeriesBean existingTvSeries = null;
         try {
-            existingTvSeries = retrieveByIdFromFile(tvSeriesId);
-        } catch (IOException | CsvValidationException e) {
-            throw new ExceptionDao("Failed to check existing TV Series for ID: " + tvSeriesId + ". I/O error.", e);
-        } catch (NumberFormatException e) {
-            throw new ExceptionDao("Data corruption while checking existing TV Series for ID: " + tvSeriesId + ". Invalid number format.", e);
+            if (!saveTvSeriesToFile(tvSeries)) {
+                throw new ExceptionDao("Duplicated TV Series ID already exists in CSV file: " + tvSeriesId);
+            }
+        } catch (IOException e) {
+            throw new ExceptionDao("Failed to save TV Series to CSV for ID: " + tvSeriesId + ". I/O error.", e);
         }
 
-        if (existingTvSeries != null) {
-            throw new ExceptionDao("Duplicated TV Series ID already exists in CSV file: " + tvSeriesId);
+        localCache.put(tvSeriesId, tvSeries);
+
+        return true;
+    }
+
+    @Override
+    public void upsertTvSeries(TvSeriesBean tvSeries) throws ExceptionDao {
+        int id = tvSeries.getIdTvSeriesTmdb();
+        if (localCache.containsKey(id)) {
+            return;
         }
 
         try {
-            saveTvSeriesToFile(tvSeries);
+            if (OFFSET_INDEX.appendIfAbsent(String.valueOf(id), recordOf(tvSeries))) {
+                localCache.put(id, tvSeries);
+            }
         } catch (IOException e) {
-            throw new ExceptionDao("Failed to save TV Series to CSV for ID: " + tvSeriesId + ". I/O error.", e);
-        }
-
-        synchronized (localCache) {
-            localCache.put(tvSeriesId, tvSeries);
+            throw new ExceptionDao("Failed to upsert TV Series to CSV for ID: " + id + ". I/O error.", e);
         }
+    }
 
-        return true;
+    private boolean saveTvSeriesToFile(TvSeriesBean tvSeries) throws IOException {
+        String[] recordTvSeries = recordOf(tvSeries);
+        return OFFSET_INDEX.appendIfAbsent(recordTvSeries[0], recordTvSeries);
     }
 
-    private void saveTvSeriesToFile(TvSeriesBean tvSeries) throws IOException {
-        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-            String[] recordTvSeries = {
-                    String.valueOf(tvSeries.getIdTvSeriesTmdb()),
-                    String.valueOf(tvSeries.getEpisodeRuntime()),
-                    String.valueOf(tvSeries.getNumberOfEpisodes()),
-                    tvSeries.getName()
-            };
-            csvWriter.writeNext(recordTvSeries);
-        }
+    private static String[] recordOf(TvSeriesBean tvSeries) {
+        return new String[]{
+                String.valueOf(tvSeries.getIdTvSeriesTmdb()),
+                String.valueOf(tvSeries.getEpisodeRuntime()),
+                String.valueOf(tvSeries.getNumberOfEpisodes()),
+                tvSeries.getName()
+        };
     }
 
     @Override
@@ -165,17 +159,20 @@ public class TvSeriesDaoCsv implements TvSeriesDao {
             throw new ExceptionDao("Data corruption while retrieving all TV Series. Invalid number format.", e);
         }
 
-        synchronized (localCache) {
-            localCache.clear();
-            for (TvSeriesBean tvSeries : tvSeriesList) {
-                localCache.put(tvSeries.getIdTvSeriesTmdb(), tvSeries);
-            }
+        localCache.clear();
+        for (TvSeriesBean tvSeries : tvSeriesList) {
+            localCache.put(tvSeries.getIdTvSeriesTmdb(), tvSeries);
         }
 
         return Collections.unmodifiableList(tvSeriesList);
     }
 
     private List<TvSeriesBean> retrieveAllTvSeriesFromFile() throws IOException, CsvValidationException {
+        CsvWriteBehindQueue.getInstance().flush();
+        return CsvFileLocks.withReadLock(Paths.get(CSV_FILE_NAME), this::readAllTvSeries);
+    }
+
+    private List<TvSeriesBean> readAllTvSeries() throws IOException, CsvValidationException {
         List<TvSeriesBean> tvSeriesList = new ArrayList<>();
         try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
             String[] recordTvSeries;
@@ -4,6 +4,7 @@ import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import ispw.project.project_ispw.bean.UserBean;
+import ispw.project.project_ispw.cache.EntityCache;
 import ispw.project.project_ispw.dao.UserDao;
 import ispw.project.project_ispw.exception.CsvDaoException;
 import ispw.project.project_ispw.exception.ExceptionDao;
@@ -13,7 +14,6 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.util.HashMap;
 import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,7 +24,7 @@ public class UserDaoCsv implements UserDao {
 
     private static final String CSV_FILE_NAME;
 
-    private final HashMap<String, UserBean> localCache;
+    private final EntityCache<String, UserBean> localCache;
 
     static {
         Properties properties = new Properties();
@@ -53,15 +53,14 @@ public class UserDaoCsv implements UserDao {
     }
 
     public UserDaoCsv() {
-        this.localCache = new HashMap<>();
+        this.localCache = new EntityCache<>(CsvConfig.getInt("csv.cache.max.size", 1000));
     }
 
     @Override
     public UserBean retrieveByUsername(String username) throws ExceptionDao {
-        synchronized (localCache) {
-            if (localCache.containsKey(username)) {
-                return localCache.get(username);
-            }
+        UserBean cached = localCache.get(username);
+        if (cached != null) {
+            return cached;
         }
 
         UserBean user = null;
@@ -74,14 +73,16 @@ public class UserDaoCsv implements UserDao {
         }
 
         if (user != null) {
-            synchronized (localCache) {
-                localCache.put(username, user);
-            }
+            localCache.put(username, user);
         }
         return user;
     }
 
     private UserBean retrieveByUsernameFromFile(String username) throws IOException, CsvValidationException {
+        return CsvFileLocks.withReadLock(Paths.get(CSV_FILE_NAME), () -> findUserRecord(username));
+    }
+
+    private UserBean findUserRecord(String username) throws IOException, CsvValidationException {
         try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(Paths.get(CSV_FILE_NAME)))) {
             String[] recordUser;
             while ((recordUser = csvReader.readNext()) != null) {
@@ -100,10 +101,8 @@ public class UserDaoCsv implements UserDao {
     public void saveUser(UserBean user) throws ExceptionDao {
         String username = user.getUsername();
 
-        synchronized (localCache) {
-            if (localCache.containsKey(username)) {
-                throw new ExceptionDao("User with username '" + username + "' already in cache.");
-            }
+        if (localCache.containsKey(username)) {
+            throw new ExceptionDao("User with username '" + username + "' already in cache.");
         }
 
         UserBean existingUser = null;
@@ -125,15 +124,15 @@ public class UserDaoCsv implements UserDao {
             throw new ExceptionDao("Failed to save user to CSV for username: " + username + ". I/O error.", e);
         }
 
-        synchronized (localCache) {
-            localCache.put(username, user);
-        }
+        localCache.put(username, user);
     }
 
     private void saveUserToFile(UserBean user) throws IOException {
-        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
-            String[] recordUser = {user.getUsername(), user.getPassword()};
-            csvWriter.writeNext(recordUser);
-        }
+        CsvFileLocks.runWithWriteLock(Paths.get(CSV_FILE_NAME), () -> {
+            try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(Paths.get(CSV_FILE_NAME), StandardOpenOption.APPEND))) {
+                String[] recordUser = {user.getUsername(), user.getPassword()};
+                csvWriter.writeNext(recordUser);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -54,6 +54,24 @@ public class AnimeDaoJdbc implements AnimeDao {
         }
     }
 
+    @Override
+    public void upsertAnime(AnimeBean anime) throws ExceptionDao {
+        Connection conn = null;
+
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudAnime.upsertAnime(conn, anime);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after upsertAnime for anime ID {0}: {1}", new Object[]{anime.getIdAnimeTmdb(), e.getMessage()});
+                }
+            }
+        }
+    }
+
     @Override
     public List<AnimeBean> retrieveAllAnime() throws ExceptionDao {
         Connection conn = null;
@@ -10,6 +10,7 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,12 +36,37 @@ public class ListAnimeDaoJdbc implements ListAnime {
         }
     }
 
+    @Override
+    public void addAnimesToList(ListBean list, Collection<AnimeBean> animeList) throws ExceptionDao {
+        if (animeList.isEmpty()) {
+            return;
+        }
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudListAnime.addAnimesToList(conn, list, animeList);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after addAnimesToList: {0}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Override
     public void removeAnimeFromList(ListBean list, AnimeBean anime) throws ExceptionDao {
+        removeAnimeFromList(list, anime.getIdAnimeTmdb());
+    }
+
+    @Override
+    public void removeAnimeFromList(ListBean list, int animeId) throws ExceptionDao {
         Connection conn = null;
         try {
             conn = SingletonDatabase.getInstance().getConnection();
-            CrudListAnime.removeAnimeFromList(conn, list, anime);
+            CrudListAnime.removeAnimeFromList(conn, list, animeId);
         } finally {
             if (conn != null) {
                 try {
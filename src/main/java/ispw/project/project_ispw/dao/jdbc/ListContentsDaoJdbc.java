@@ -0,0 +1,53 @@
+package ispw.project.project_ispw.dao.jdbc;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
+import ispw.project.project_ispw.connection.SingletonDatabase;
+import ispw.project.project_ispw.dao.ListContentsDao;
+import ispw.project.project_ispw.dao.queries.CrudListContents;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ListContentsDaoJdbc implements ListContentsDao {
+
+    private static final Logger LOGGER = Logger.getLogger(ListContentsDaoJdbc.class.getName());
+
+    @Override
+    public ListContents getListContents(ListBean list) throws ExceptionDao {
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            return CrudListContents.getListContents(conn, list);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after getListContents for list ID {0}: {1}", new Object[]{list.getId(), e.getMessage()});
+                }
+            }
+        }
+    }
+
+    @Override
+    public void deleteListWithContents(ListBean list) throws ExceptionDao {
+        Connection conn = null;
+        try {
+            SingletonDatabase database = SingletonDatabase.getInstance();
+            conn = database.getConnection();
+            CrudListContents.deleteListWithContents(conn, list, database.isSchemaCascadingDeletes());
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after deleteListWithContents for list ID {0}: {1}", new Object[]{list.getId(), e.getMessage()});
+                }
+            }
+        }
+    }
+}
@@ -94,4 +94,24 @@ public class ListDaoJdbc implements ListDao {
         }
         return lists;
     }
+
+    @Override
+    public List<ListBean> retrieveListsOfUsername(String username, int afterListId, int pageSize) throws ExceptionDao {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            return CrudList.getListsByUsernamePage(conn, username, afterListId, pageSize);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after retrieveListsOfUsername for user ''{0}'': {1}", new Object[]{username, e.getMessage()});
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
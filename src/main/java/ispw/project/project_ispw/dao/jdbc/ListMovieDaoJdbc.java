@@ -10,6 +10,7 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList; // Import ArrayList for empty list
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,12 +36,37 @@ public class ListMovieDaoJdbc implements ListMovie {
         }
     }
 
+    @Override
+    public void addMoviesToList(ListBean list, Collection<MovieBean> movies) throws ExceptionDao {
+        if (movies.isEmpty()) {
+            return;
+        }
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudListMovie.addMoviesToList(conn, list, movies);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after addMoviesToList: {0}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Override
     public void removeMovieFromList(ListBean list, MovieBean movie) throws ExceptionDao {
+        removeMovieFromList(list, movie.getIdMovieTmdb());
+    }
+
+    @Override
+    public void removeMovieFromList(ListBean list, int movieId) throws ExceptionDao {
         Connection conn = null;
         try {
             conn = SingletonDatabase.getInstance().getConnection();
-            CrudListMovie.removeMovieFromList(conn, list, movie);
+            CrudListMovie.removeMovieFromList(conn, list, movieId);
         } finally {
             if (conn != null) {
                 try {
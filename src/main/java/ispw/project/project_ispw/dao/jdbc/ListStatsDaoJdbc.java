@@ -0,0 +1,35 @@
+package ispw.project.project_ispw.dao.jdbc;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.connection.SingletonDatabase;
+import ispw.project.project_ispw.dao.ListStatsDao;
+import ispw.project.project_ispw.dao.queries.CrudListStats;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ListStatsDaoJdbc implements ListStatsDao {
+
+    private static final Logger LOGGER = Logger.getLogger(ListStatsDaoJdbc.class.getName());
+
+    @Override
+    public ListStats getListStats(ListBean list) throws ExceptionDao {
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            return CrudListStats.getListStats(conn, list);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after getListStats for list ID {0}: {1}", new Object[]{list.getId(), e.getMessage()});
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList; // Added import for ArrayList
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,12 +36,37 @@ public class ListTvSeriesDaoJdbc implements ListTvSeries {
         }
     }
 
+    @Override
+    public void addTvSeriesToList(ListBean list, Collection<TvSeriesBean> tvSeriesList) throws ExceptionDao {
+        if (tvSeriesList.isEmpty()) {
+            return;
+        }
+        Connection conn = null;
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudListTvSeries.addTvSeriesToList(conn, list, tvSeriesList);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after addTvSeriesToList: {0}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Override
     public void removeTvSeriesFromList(ListBean list, TvSeriesBean tvSeries) throws ExceptionDao {
+        removeTvSeriesFromList(list, tvSeries.getIdTvSeriesTmdb());
+    }
+
+    @Override
+    public void removeTvSeriesFromList(ListBean list, int tvSeriesId) throws ExceptionDao {
         Connection conn = null;
         try {
             conn = SingletonDatabase.getInstance().getConnection();
-            CrudListTvSeries.removeTvSeriesFromList(conn, list, tvSeries);
+            CrudListTvSeries.removeTvSeriesFromList(conn, list, tvSeriesId);
         } finally {
             if (conn != null) {
                 try {
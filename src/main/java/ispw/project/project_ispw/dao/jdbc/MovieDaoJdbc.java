@@ -55,6 +55,24 @@ public class MovieDaoJdbc implements MovieDao {
         }
     }
 
+    @Override
+    public void upsertMovie(MovieBean movie) throws ExceptionDao {
+        Connection conn = null;
+
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudMovie.upsertMovie(conn, movie);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after upsertMovie for movie ID {0}: {1}", new Object[]{movie.getIdMovieTmdb(), e.getMessage()});
+                }
+            }
+        }
+    }
+
     @Override
     public List<MovieBean> retrieveAllMovies() throws ExceptionDao {
         Connection conn = null;
@@ -58,6 +58,24 @@ public class TvSeriesDaoJdbc implements TvSeriesDao {
         return success;
     }
 
+    @Override
+    public void upsertTvSeries(TvSeriesBean tvSeries) throws ExceptionDao {
+        Connection conn = null;
+
+        try {
+            conn = SingletonDatabase.getInstance().getConnection();
+            CrudTvSeries.upsertTvSeries(conn, tvSeries);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Error closing connection after upsertTvSeries for TV Series ID {0}: {1}", new Object[]{tvSeries.getIdTvSeriesTmdb(), e.getMessage()});
+                }
+            }
+        }
+    }
+
     @Override
     public List<TvSeriesBean> retrieveAllTvSeries() throws ExceptionDao {
         Connection conn = null;
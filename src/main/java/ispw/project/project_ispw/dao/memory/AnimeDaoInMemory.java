@@ -6,13 +6,13 @@ import ispw.project.project_ispw.exception.CsvDaoException;
 import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AnimeDaoInMemory implements AnimeDao {
 
-    private final Map<Integer, AnimeBean> animeMap = new HashMap<>();
+    private final Map<Integer, AnimeBean> animeMap = new ConcurrentHashMap<>();
 
     @Override
     public AnimeBean retrieveById(int id) throws ExceptionDao {
@@ -31,6 +31,14 @@ public class AnimeDaoInMemory implements AnimeDao {
         animeMap.put(id, anime);
     }
 
+    @Override
+    public void upsertAnime(AnimeBean anime) throws ExceptionDao {
+        if (anime == null) {
+            throw new IllegalArgumentException("Anime cannot be null.");
+        }
+        animeMap.putIfAbsent(anime.getIdAnimeTmdb(), anime);
+    }
+
     @Override
     public List<AnimeBean> retrieveAllAnime() throws ExceptionDao {
         return new ArrayList<>(animeMap.values());
@@ -6,10 +6,14 @@ import ispw.project.project_ispw.dao.ListAnime;
 import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ListAnimeDaoInMemory implements ListAnime {
 
@@ -32,18 +36,50 @@ public class ListAnimeDaoInMemory implements ListAnime {
         animeList.add(anime);
     }
 
+    @Override
+    public void addAnimesToList(ListBean list, Collection<AnimeBean> animeList) throws ExceptionDao {
+        if (list == null || animeList == null) {
+            throw new IllegalArgumentException("List and Anime cannot be null.");
+        }
+
+        int listId = list.getId();
+
+        Set<AnimeBean> existing = new HashSet<>(animeByListId.getOrDefault(listId, Collections.emptyList()));
+        Set<AnimeBean> batch = new LinkedHashSet<>();
+        for (AnimeBean anime : animeList) {
+            if (anime == null) {
+                throw new IllegalArgumentException("List and Anime cannot be null.");
+            }
+            if (existing.contains(anime) || !batch.add(anime)) {
+                throw new ExceptionDao("Anime with ID " + anime.getIdAnimeTmdb() + " already exists in list " + listId + ".");
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            animeByListId.computeIfAbsent(listId, k -> new ArrayList<>()).addAll(batch);
+        }
+    }
+
     @Override
     public void removeAnimeFromList(ListBean list, AnimeBean anime) throws ExceptionDao {
         if (list == null || anime == null) {
             throw new IllegalArgumentException("List and Anime cannot be null.");
         }
+        removeAnimeFromList(list, anime.getIdAnimeTmdb());
+    }
+
+    @Override
+    public void removeAnimeFromList(ListBean list, int animeId) throws ExceptionDao {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null.");
+        }
 
         int listId = list.getId();
 
         List<AnimeBean> animeList = animeByListId.get(listId);
 
-        if (animeList == null || !animeList.remove(anime)) {
-            throw new ExceptionDao("Anime with ID " + anime.getIdAnimeTmdb() + " not found in list " + listId + ".");
+        if (animeList == null || !animeList.removeIf(item -> item.getIdAnimeTmdb() == animeId)) {
+            throw new ExceptionDao("Anime with ID " + animeId + " not found in list " + listId + ".");
         }
 
         if (animeList.isEmpty()) {
@@ -8,11 +8,12 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,7 +24,9 @@ public class ListDaoInMemory implements ListDao {
 
     private final Map<Integer, ListBean> listMap = new HashMap<>();
 
-    private final Map<String, Set<Integer>> userListsMap = new HashMap<>();
+    private final Map<String, NavigableSet<Integer>> userListsMap = new HashMap<>();
+
+    private int nextId = 1;
 
     @Override
     public ListBean retrieveById(int id) throws ExceptionDao {
@@ -39,9 +42,16 @@ public class ListDaoInMemory implements ListDao {
         int id = list.getId();
         String username = user.getUsername();
 
+        if (id == 0) {
+            // Same contract as the AUTO_INCREMENT column: id 0 asks for the next free id.
+            id = nextId;
+            list.setId(id);
+        }
+
         if (listMap.containsKey(id)) {
             throw new ExceptionDao("List with ID " + id + " already exists. Use update if you intend to modify.");
         }
+        nextId = Math.max(nextId, id + 1);
 
         if (!Objects.equals(list.getUsername(), username)) {
             LOGGER.log(Level.WARNING, "ListBean''s username ({0}) does not match UserBean''s username ({1}). Setting ListBean''s username.", new Object[]{list.getUsername(), username});
@@ -50,7 +60,7 @@ public class ListDaoInMemory implements ListDao {
 
         listMap.put(id, list);
 
-        userListsMap.computeIfAbsent(username, k -> new HashSet<>()).add(id);
+        userListsMap.computeIfAbsent(username, k -> new TreeSet<>()).add(id);
 
         LOGGER.log(Level.INFO, "List with ID {0} saved for user {1}.", new Object[]{id, username});
     }
@@ -113,4 +123,30 @@ public class ListDaoInMemory implements ListDao {
         }
         return Collections.unmodifiableList(result);
     }
+
+    @Override
+    public List<ListBean> retrieveListsOfUsername(String username, int afterListId, int pageSize) throws ExceptionDao {
+        if (username == null) {
+            throw new IllegalArgumentException("Username cannot be null.");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+
+        List<ListBean> result = new ArrayList<>();
+        NavigableSet<Integer> ids = userListsMap.get(username);
+
+        if (ids != null) {
+            for (int id : ids.tailSet(afterListId, false)) {
+                if (result.size() == pageSize) {
+                    break;
+                }
+                ListBean list = listMap.get(id);
+                if (list != null) {
+                    result.add(list);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
 }
\ No newline at end of file
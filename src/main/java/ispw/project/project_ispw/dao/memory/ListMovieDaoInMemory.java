@@ -6,10 +6,14 @@ import ispw.project.project_ispw.dao.ListMovie;
 import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ListMovieDaoInMemory implements ListMovie {
 
@@ -32,18 +36,50 @@ public class ListMovieDaoInMemory implements ListMovie {
         movieList.add(movie);
     }
 
+    @Override
+    public void addMoviesToList(ListBean list, Collection<MovieBean> movies) throws ExceptionDao {
+        if (list == null || movies == null) {
+            throw new IllegalArgumentException("List and Movies cannot be null.");
+        }
+
+        int listId = list.getId();
+
+        Set<MovieBean> existing = new HashSet<>(movieByListId.getOrDefault(listId, Collections.emptyList()));
+        Set<MovieBean> batch = new LinkedHashSet<>();
+        for (MovieBean movie : movies) {
+            if (movie == null) {
+                throw new IllegalArgumentException("List and Movies cannot be null.");
+            }
+            if (existing.contains(movie) || !batch.add(movie)) {
+                throw new ExceptionDao("Movie with ID " + movie.getIdMovieTmdb() + " already exists in list " + listId + ".");
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            movieByListId.computeIfAbsent(listId, k -> new ArrayList<>()).addAll(batch);
+        }
+    }
+
     @Override
     public void removeMovieFromList(ListBean list, MovieBean movie) throws ExceptionDao {
         if (list == null || movie == null) {
             throw new IllegalArgumentException("List and Movie cannot be null.");
         }
+        removeMovieFromList(list, movie.getIdMovieTmdb());
+    }
+
+    @Override
+    public void removeMovieFromList(ListBean list, int movieId) throws ExceptionDao {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null.");
+        }
 
         int listId = list.getId();
 
         List<MovieBean> movieList = movieByListId.get(listId);
 
-        if (movieList == null || !movieList.remove(movie)) {
-            throw new ExceptionDao("Movie with ID " + movie.getIdMovieTmdb() + " not found in list " + listId + ".");
+        if (movieList == null || !movieList.removeIf(item -> item.getIdMovieTmdb() == movieId)) {
+            throw new ExceptionDao("Movie with ID " + movieId + " not found in list " + listId + ".");
         }
 
         if (movieList.isEmpty()) {
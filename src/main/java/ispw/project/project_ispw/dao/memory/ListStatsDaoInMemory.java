@@ -0,0 +1,55 @@
+package ispw.project.project_ispw.dao.memory;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.dao.ListAnime;
+import ispw.project.project_ispw.dao.ListMovie;
+import ispw.project.project_ispw.dao.ListStatsDao;
+import ispw.project.project_ispw.dao.ListTvSeries;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+import java.util.List;
+
+public class ListStatsDaoInMemory implements ListStatsDao {
+
+    private final ListMovie listMovieDao;
+    private final ListTvSeries listTvSeriesDao;
+    private final ListAnime listAnimeDao;
+
+    public ListStatsDaoInMemory(ListMovie listMovieDao, ListTvSeries listTvSeriesDao, ListAnime listAnimeDao) {
+        this.listMovieDao = listMovieDao;
+        this.listTvSeriesDao = listTvSeriesDao;
+        this.listAnimeDao = listAnimeDao;
+    }
+
+    @Override
+    public ListStats getListStats(ListBean list) throws ExceptionDao {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null.");
+        }
+
+        // The in-memory DAOs hand out read-only views of their own lists, so summing them copies nothing.
+        List<MovieBean> movies = listMovieDao.getAllMoviesInList(list);
+        long movieMinutes = 0;
+        for (MovieBean movie : movies) {
+            movieMinutes += movie.getRuntime();
+        }
+
+        List<TvSeriesBean> tvSeries = listTvSeriesDao.getAllTvSeriesInList(list);
+        long tvSeriesMinutes = 0;
+        for (TvSeriesBean series : tvSeries) {
+            tvSeriesMinutes += (long) series.getEpisodeRuntime() * series.getNumberOfEpisodes();
+        }
+
+        List<AnimeBean> anime = listAnimeDao.getAllAnimeInList(list);
+        long animeMinutes = 0;
+        for (AnimeBean item : anime) {
+            animeMinutes += (long) item.getDuration() * item.getEpisodes();
+        }
+
+        return new ListStats(movies.size(), movieMinutes, tvSeries.size(), tvSeriesMinutes, anime.size(), animeMinutes);
+    }
+}
@@ -6,10 +6,14 @@ import ispw.project.project_ispw.dao.ListTvSeries;
 import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ListTvSeriesDaoInMemory implements ListTvSeries {
 
@@ -32,18 +36,50 @@ public class ListTvSeriesDaoInMemory implements ListTvSeries {
         tvSeriesList.add(tvSeries);
     }
 
+    @Override
+    public void addTvSeriesToList(ListBean list, Collection<TvSeriesBean> tvSeriesList) throws ExceptionDao {
+        if (list == null || tvSeriesList == null) {
+            throw new IllegalArgumentException("List and TV Series cannot be null.");
+        }
+
+        int listId = list.getId();
+
+        Set<TvSeriesBean> existing = new HashSet<>(tvSeriesByListId.getOrDefault(listId, Collections.emptyList()));
+        Set<TvSeriesBean> batch = new LinkedHashSet<>();
+        for (TvSeriesBean tvSeries : tvSeriesList) {
+            if (tvSeries == null) {
+                throw new IllegalArgumentException("List and TV Series cannot be null.");
+            }
+            if (existing.contains(tvSeries) || !batch.add(tvSeries)) {
+                throw new ExceptionDao("TV Series with ID " + tvSeries.getIdTvSeriesTmdb() + " already exists in list " + listId + ".");
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            tvSeriesByListId.computeIfAbsent(listId, k -> new ArrayList<>()).addAll(batch);
+        }
+    }
+
     @Override
     public void removeTvSeriesFromList(ListBean list, TvSeriesBean tvSeries) throws ExceptionDao {
         if (list == null || tvSeries == null) {
             throw new IllegalArgumentException("List and TV Series cannot be null.");
         }
+        removeTvSeriesFromList(list, tvSeries.getIdTvSeriesTmdb());
+    }
+
+    @Override
+    public void removeTvSeriesFromList(ListBean list, int tvSeriesId) throws ExceptionDao {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null.");
+        }
 
         int listId = list.getId();
 
         List<TvSeriesBean> tvSeriesList = tvSeriesByListId.get(listId);
 
-        if (tvSeriesList == null || !tvSeriesList.remove(tvSeries)) {
-            throw new ExceptionDao("TV Series with ID " + tvSeries.getIdTvSeriesTmdb() + " not found in list " + listId + ".");
+        if (tvSeriesList == null || !tvSeriesList.removeIf(item -> item.getIdTvSeriesTmdb() == tvSeriesId)) {
+            throw new ExceptionDao("TV Series with ID " + tvSeriesId + " not found in list " + listId + ".");
         }
 
         if (tvSeriesList.isEmpty()) {
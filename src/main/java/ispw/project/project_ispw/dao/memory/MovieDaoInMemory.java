@@ -6,13 +6,13 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MovieDaoInMemory implements MovieDao {
 
-    private final Map<Integer, MovieBean> movieMap = new HashMap<>();
+    private final Map<Integer, MovieBean> movieMap = new ConcurrentHashMap<>();
 
     @Override
     public MovieBean retrieveById(int id) throws ExceptionDao {
@@ -31,6 +31,14 @@ public class MovieDaoInMemory implements MovieDao {
         movieMap.put(id, movie);
     }
 
+    @Override
+    public void upsertMovie(MovieBean movie) throws ExceptionDao {
+        if (movie == null) {
+            throw new IllegalArgumentException("Movie cannot be null.");
+        }
+        movieMap.putIfAbsent(movie.getIdMovieTmdb(), movie);
+    }
+
     @Override
     public List<MovieBean> retrieveAllMovies() throws ExceptionDao {
 
@@ -6,13 +6,13 @@ import ispw.project.project_ispw.exception.ExceptionDao;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TvSeriesDaoInMemory implements TvSeriesDao {
 
-    private final Map<Integer, TvSeriesBean> tvSeriesMap = new HashMap<>();
+    private final Map<Integer, TvSeriesBean> tvSeriesMap = new ConcurrentHashMap<>();
 
     @Override
     public TvSeriesBean retrieveById(int id) throws ExceptionDao {
@@ -32,6 +32,14 @@ public class TvSeriesDaoInMemory implements TvSeriesDao {
         return true;
     }
 
+    @Override
+    public void upsertTvSeries(TvSeriesBean tvSeries) throws ExceptionDao {
+        if (tvSeries == null) {
+            throw new IllegalArgumentException("TV Series cannot be null.");
+        }
+        tvSeriesMap.putIfAbsent(tvSeries.getIdTvSeriesTmdb(), tvSeries);
+    }
+
     @Override
     public List<TvSeriesBean> retrieveAllTvSeries() throws ExceptionDao {
         if (tvSeriesMap.isEmpty()) {
@@ -17,6 +17,8 @@ public class CrudAnime {
     }
 
     private static final String INSERT_ANIME_SQL = "INSERT INTO anime (idAniList, duration, episodes, name) VALUES (?, ?, ?, ?)";
+    // The no-op update turns a duplicate key into "already present" instead of an error.
+    private static final String UPSERT_ANIME_SQL = "INSERT INTO anime (idAniList, duration, episodes, name) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE idAniList = idAniList";
     private static final String UPDATE_ANIME_SQL = "UPDATE anime SET name=?, episodes=?, duration=? WHERE idAniList = ?";
     private static final String DELETE_ANIME_SQL = "DELETE FROM anime WHERE idAniList = ?";
     private static final String SELECT_ALL_ANIMES_SQL = "SELECT idAniList, duration, episodes, name FROM anime";
@@ -34,6 +36,18 @@ public class CrudAnime {
         }
     }
 
+    public static int upsertAnime(Connection conn, AnimeBean anime) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(UPSERT_ANIME_SQL)) {
+            ps.setInt(1, anime.getIdAnimeTmdb());
+            ps.setInt(2, anime.getDuration());
+            ps.setInt(3, anime.getEpisodes());
+            ps.setString(4, anime.getTitle());
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to upsert anime with ID " + anime.getIdAnimeTmdb() + ": " + e.getMessage(), e);
+        }
+    }
+
     public static int updateAnime(Connection conn, AnimeBean anime) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(UPDATE_ANIME_SQL)) {
             ps.setString(1, anime.getTitle());
@@ -0,0 +1,27 @@
+package ispw.project.project_ispw.dao.queries;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class CrudBatch {
+
+    private CrudBatch(){
+        //Empty Constructor
+    }
+
+    /**
+     * Executes the statement's pending batch in a single transaction, so a failing row leaves nothing behind.
+     * With rewriteBatchedStatements enabled the driver sends the whole batch as one multi-row statement.
+     */
+    public static int executeAtomically(Connection conn, PreparedStatement ps) throws SQLException {
+        return CrudTransaction.inTransaction(conn, () -> {
+            int affectedRows = 0;
+            for (int count : ps.executeBatch()) {
+                affectedRows += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return affectedRows;
+        });
+    }
+}
@@ -8,6 +8,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,13 +19,24 @@ public class CrudList {
     }
 
     private static final String INSERT_LIST_SQL = "INSERT INTO list (idList, name, username) VALUES (?, ?, ?)";
+    private static final String INSERT_LIST_GENERATED_ID_SQL = "INSERT INTO list (name, username) VALUES (?, ?)";
     private static final String UPDATE_LIST_SQL = "UPDATE list SET name=?, username=? WHERE idList = ?";
     private static final String DELETE_LIST_SQL = "DELETE FROM list WHERE idList = ?";
     private static final String SELECT_ALL_LISTS_SQL = "SELECT idList, name, username FROM list";
     private static final String SELECT_LIST_BY_ID_SQL = "SELECT idList, name, username FROM list WHERE idList = ?";
     private static final String SELECT_LISTS_BY_USERNAME_SQL = "SELECT idList, name, username FROM list WHERE username = ?";
+    // Keyset pagination: the (username, idList) entries of the username index are read from the last seen id onwards.
+    private static final String SELECT_LISTS_PAGE_BY_USERNAME_SQL =
+            "SELECT idList, name, username FROM list WHERE username = ? AND idList > ? ORDER BY idList LIMIT ?";
 
+    /**
+     * Inserts the list. A list with id 0 gets its id from the AUTO_INCREMENT column, read back in the same round
+     * trip and set on the bean; a non-zero id is inserted as given.
+     */
     public static int addList(Connection conn, ListBean list, UserBean user) throws ExceptionDao {
+        if (list.getId() == 0) {
+            return addListWithGeneratedId(conn, list, user);
+        }
         try (PreparedStatement ps = conn.prepareStatement(INSERT_LIST_SQL)) {
             ps.setInt(1, list.getId());
             ps.setString(2, list.getName());
@@ -35,6 +47,23 @@ public class CrudList {
         }
     }
 
+    private static int addListWithGeneratedId(Connection conn, ListBean list, UserBean user) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_LIST_GENERATED_ID_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, list.getName());
+            ps.setString(2, user.getUsername());
+            int affectedRows = ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new ExceptionDao("Failed to add list: no generated ID returned.");
+                }
+                list.setId(keys.getInt(1));
+            }
+            return affectedRows;
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to add list: " + e.getMessage(), e);
+        }
+    }
+
     public static int updateList(Connection conn, ListBean list, UserBean user) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(UPDATE_LIST_SQL)) {
             ps.setString(1, list.getName());
@@ -105,6 +134,23 @@ public class CrudList {
         return userLists;
     }
 
+    public static List<ListBean> getListsByUsernamePage(Connection conn, String username, int afterListId, int pageSize) throws ExceptionDao {
+        List<ListBean> userLists = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_LISTS_PAGE_BY_USERNAME_SQL)) {
+            ps.setString(1, username);
+            ps.setInt(2, afterListId);
+            ps.setInt(3, pageSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    userLists.add(mapResultSetToListBean(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to retrieve lists for username " + username + " after list ID " + afterListId + ": " + e.getMessage(), e);
+        }
+        return userLists;
+    }
+
     private static ListBean mapResultSetToListBean(ResultSet rs) throws SQLException {
         int idList = rs.getInt("idList");
         String name = rs.getString("name");
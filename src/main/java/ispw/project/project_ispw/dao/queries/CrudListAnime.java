@@ -9,6 +9,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class CrudListAnime {
@@ -40,13 +41,26 @@ public class CrudListAnime {
         }
     }
 
-    public static int removeAnimeFromList(Connection conn, ListBean list, AnimeBean anime) throws ExceptionDao {
+    public static int addAnimesToList(Connection conn, ListBean list, Collection<AnimeBean> animeList) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_LIST_ANIME_SQL)) {
+            for (AnimeBean anime : animeList) {
+                ps.setInt(1, list.getId());
+                ps.setInt(2, anime.getIdAnimeTmdb());
+                ps.addBatch();
+            }
+            return CrudBatch.executeAtomically(conn, ps);
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to add " + animeList.size() + " anime entries to list ID " + list.getId() + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static int removeAnimeFromList(Connection conn, ListBean list, int animeId) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(DELETE_LIST_ANIME_SQL)) {
             ps.setInt(1, list.getId());
-            ps.setInt(2, anime.getIdAnimeTmdb());
+            ps.setInt(2, animeId);
             return ps.executeUpdate();
         } catch (SQLException e) {
-            throw new ExceptionDao("Failed to remove anime ID " + anime.getIdAnimeTmdb() + " from list ID " + list.getId() + ": " + e.getMessage(), e);
+            throw new ExceptionDao("Failed to remove anime ID " + animeId + " from list ID " + list.getId() + ": " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,108 @@
+package ispw.project.project_ispw.dao.queries;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListContents;
+import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CrudListContents {
+
+    private CrudListContents(){
+        //Empty Constructor
+    }
+
+    private static final String KIND_MOVIE = "MOVIE";
+    private static final String KIND_TVSERIES = "TVSERIES";
+    private static final String KIND_ANIME = "ANIME";
+
+    // One row per item; "length" is the movie runtime or the per-episode runtime, "episodes" is NULL for movies.
+    private static final String SELECT_LIST_CONTENTS_SQL =
+            "SELECT '" + KIND_MOVIE + "' AS kind, m.idMovieTmdb AS id, m.name AS name, m.runtime AS length, NULL AS episodes " +
+                    "FROM list_movie lm " +
+                    "JOIN movie m ON lm.idMovieTmdb = m.idMovieTmdb " +
+                    "WHERE lm.idList = ? " +
+            "UNION ALL " +
+            "SELECT '" + KIND_TVSERIES + "', ts.idTvSeriesTmdb, ts.name, ts.episodeRuntime, ts.numberOfEpisodes " +
+                    "FROM list_tvseries lts " +
+                    "JOIN tvseries ts ON lts.idTvSeriesTmdb = ts.idTvSeriesTmdb " +
+                    "WHERE lts.idList = ? " +
+            "UNION ALL " +
+            "SELECT '" + KIND_ANIME + "', a.idAniList, a.name, a.duration, a.episodes " +
+                    "FROM list_anime la " +
+                    "JOIN anime a ON la.idAniList = a.idAniList " +
+                    "WHERE la.idList = ?";
+
+    private static final String[] DELETE_LIST_ITEMS_SQL = {
+            "DELETE FROM list_movie WHERE idList = ?",
+            "DELETE FROM list_tvseries WHERE idList = ?",
+            "DELETE FROM list_anime WHERE idList = ?"
+    };
+    private static final String DELETE_LIST_SQL = "DELETE FROM list WHERE idList = ?";
+
+    public static ListContents getListContents(Connection conn, ListBean list) throws ExceptionDao {
+        List<MovieBean> movies = new ArrayList<>();
+        List<TvSeriesBean> tvSeries = new ArrayList<>();
+        List<AnimeBean> anime = new ArrayList<>();
+
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_LIST_CONTENTS_SQL)) {
+            ps.setInt(1, list.getId());
+            ps.setInt(2, list.getId());
+            ps.setInt(3, list.getId());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String kind = rs.getString("kind");
+                    int id = rs.getInt("id");
+                    String name = rs.getString("name");
+                    int length = rs.getInt("length");
+                    int episodes = rs.getInt("episodes");
+
+                    if (KIND_MOVIE.equals(kind)) {
+                        movies.add(new MovieBean(id, length, name));
+                    } else if (KIND_TVSERIES.equals(kind)) {
+                        tvSeries.add(new TvSeriesBean(length, id, episodes, name));
+                    } else {
+                        anime.add(new AnimeBean(id, length, episodes, name));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to retrieve contents of list ID " + list.getId() + ": " + e.getMessage(), e);
+        }
+        return new ListContents(movies, tvSeries, anime);
+    }
+
+    /**
+     * Deletes the list and its items in one transaction. When the schema declares ON DELETE CASCADE on the
+     * join tables, the single DELETE on list is enough and the join-table statements are skipped.
+     */
+    public static int deleteListWithContents(Connection conn, ListBean list, boolean schemaCascades) throws ExceptionDao {
+        try {
+            return CrudTransaction.inTransaction(conn, () -> {
+                if (!schemaCascades) {
+                    for (String sql : DELETE_LIST_ITEMS_SQL) {
+                        executeDelete(conn, sql, list.getId());
+                    }
+                }
+                return executeDelete(conn, DELETE_LIST_SQL, list.getId());
+            });
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to delete list ID " + list.getId() + " with its contents: " + e.getMessage(), e);
+        }
+    }
+
+    private static int executeDelete(Connection conn, String sql, int listId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, listId);
+            return ps.executeUpdate();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class CrudListMovie {
@@ -39,13 +40,26 @@ public class CrudListMovie {
         }
     }
 
-    public static int removeMovieFromList(Connection conn, ListBean list, MovieBean movie) throws ExceptionDao {
+    public static int addMoviesToList(Connection conn, ListBean list, Collection<MovieBean> movies) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_LIST_MOVIE_SQL)) {
+            for (MovieBean movie : movies) {
+                ps.setInt(1, list.getId());
+                ps.setInt(2, movie.getIdMovieTmdb());
+                ps.addBatch();
+            }
+            return CrudBatch.executeAtomically(conn, ps);
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to add " + movies.size() + " movie entries to list ID " + list.getId() + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static int removeMovieFromList(Connection conn, ListBean list, int movieId) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(DELETE_LIST_MOVIE_SQL)) {
             ps.setInt(1, list.getId());
-            ps.setInt(2, movie.getIdMovieTmdb());
+            ps.setInt(2, movieId);
             return ps.executeUpdate();
         } catch (SQLException e) {
-            throw new ExceptionDao("Failed to remove movie ID " + movie.getIdMovieTmdb() + " from list ID " + list.getId() + ": " + e.getMessage(), e);
+            throw new ExceptionDao("Failed to remove movie ID " + movieId + " from list ID " + list.getId() + ": " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,49 @@
+package ispw.project.project_ispw.dao.queries;
+
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.exception.ExceptionDao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class CrudListStats {
+
+    private CrudListStats(){
+        //Empty Constructor
+    }
+
+    // Each derived table is an aggregate without GROUP BY, so it yields exactly one row and the cross join yields one.
+    // MySQL multiplies integers in BIGINT precision and SUM returns DECIMAL, so the totals cannot overflow in the query.
+    private static final String SELECT_LIST_STATS_SQL =
+            "SELECT mv.itemCount AS movieCount, mv.minutes AS movieMinutes, " +
+                    "tv.itemCount AS tvSeriesCount, tv.minutes AS tvSeriesMinutes, " +
+                    "an.itemCount AS animeCount, an.minutes AS animeMinutes " +
+            "FROM (SELECT COUNT(*) AS itemCount, COALESCE(SUM(m.runtime), 0) AS minutes " +
+                    "FROM list_movie lm JOIN movie m ON lm.idMovieTmdb = m.idMovieTmdb WHERE lm.idList = ?) mv " +
+            "CROSS JOIN (SELECT COUNT(*) AS itemCount, COALESCE(SUM(ts.episodeRuntime * ts.numberOfEpisodes), 0) AS minutes " +
+                    "FROM list_tvseries lts JOIN tvseries ts ON lts.idTvSeriesTmdb = ts.idTvSeriesTmdb WHERE lts.idList = ?) tv " +
+            "CROSS JOIN (SELECT COUNT(*) AS itemCount, COALESCE(SUM(a.duration * a.episodes), 0) AS minutes " +
+                    "FROM list_anime la JOIN anime a ON la.idAniList = a.idAniList WHERE la.idList = ?) an";
+
+    public static ListStats getListStats(Connection conn, ListBean list) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_LIST_STATS_SQL)) {
+            ps.setInt(1, list.getId());
+            ps.setInt(2, list.getId());
+            ps.setInt(3, list.getId());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return new ListStats(0, 0, 0, 0, 0, 0);
+                }
+                return new ListStats(
+                        rs.getInt("movieCount"), rs.getLong("movieMinutes"),
+                        rs.getInt("tvSeriesCount"), rs.getLong("tvSeriesMinutes"),
+                        rs.getInt("animeCount"), rs.getLong("animeMinutes"));
+            }
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to compute statistics of list ID " + list.getId() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class CrudListTvSeries {
@@ -38,13 +39,26 @@ public class CrudListTvSeries {
         }
     }
 
-    public static int removeTvSeriesFromList(Connection conn, ListBean list, TvSeriesBean tvSeries) throws ExceptionDao {
+    public static int addTvSeriesToList(Connection conn, ListBean list, Collection<TvSeriesBean> tvSeriesList) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_LIST_TVSERIES_SQL)) {
+            for (TvSeriesBean tvSeries : tvSeriesList) {
+                ps.setInt(1, list.getId());
+                ps.setInt(2, tvSeries.getIdTvSeriesTmdb());
+                ps.addBatch();
+            }
+            return CrudBatch.executeAtomically(conn, ps);
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to add " + tvSeriesList.size() + " TV Series entries to list ID " + list.getId() + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static int removeTvSeriesFromList(Connection conn, ListBean list, int tvSeriesId) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(DELETE_LIST_TVSERIES_SQL)) {
             ps.setInt(1, list.getId());
-            ps.setInt(2, tvSeries.getIdTvSeriesTmdb());
+            ps.setInt(2, tvSeriesId);
             return ps.executeUpdate();
         } catch (SQLException e) {
-            throw new ExceptionDao("Failed to remove TV Series ID " + tvSeries.getIdTvSeriesTmdb() + " from list ID " + list.getId() + ": " + e.getMessage(), e);
+            throw new ExceptionDao("Failed to remove TV Series ID " + tvSeriesId + " from list ID " + list.getId() + ": " + e.getMessage(), e);
         }
     }
 
@@ -17,6 +17,8 @@ public class CrudMovie {
     }
 
     private static final String INSERT_MOVIE_SQL = "INSERT INTO movie (idMovieTmdb, runtime, name) VALUES (?, ?, ?)";
+    // The no-op update turns a duplicate key into "already present" instead of an error.
+    private static final String UPSERT_MOVIE_SQL = "INSERT INTO movie (idMovieTmdb, runtime, name) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE idMovieTmdb = idMovieTmdb";
     private static final String UPDATE_MOVIE_SQL = "UPDATE movie SET name=?, runtime=? WHERE idMovieTmdb = ?";
     private static final String DELETE_MOVIE_SQL = "DELETE FROM movie WHERE idMovieTmdb = ?";
     private static final String SELECT_ALL_MOVIES_SQL = "SELECT idMovieTmdb, runtime, name FROM movie";
@@ -33,6 +35,17 @@ public class CrudMovie {
         }
     }
 
+    public static int upsertMovie(Connection conn, MovieBean movie) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(UPSERT_MOVIE_SQL)) {
+            ps.setInt(1, movie.getIdMovieTmdb());
+            ps.setInt(2, movie.getRuntime());
+            ps.setString(3, movie.getTitle());
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to upsert movie with ID " + movie.getIdMovieTmdb() + ": " + e.getMessage(), e);
+        }
+    }
+
     public static int updateMovie(Connection conn, MovieBean movie) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(UPDATE_MOVIE_SQL)) {
             ps.setString(1, movie.getTitle());
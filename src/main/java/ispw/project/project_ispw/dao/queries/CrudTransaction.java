@@ -0,0 +1,38 @@
+package ispw.project.project_ispw.dao.queries;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class CrudTransaction {
+
+    private CrudTransaction(){
+        //Empty Constructor
+    }
+
+    @FunctionalInterface
+    public interface TransactionalWork<T> {
+        T execute() throws SQLException;
+    }
+
+    /**
+     * Runs the work as one transaction on the given connection: committed if it returns, rolled back if it throws.
+     */
+    public static <T> T inTransaction(Connection conn, TransactionalWork<T> work) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            T result = work.execute();
+            conn.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class CrudTvSeries {
     }
 
     private static final String INSERT_TVSERIES_SQL = "INSERT INTO tvseries (idTvSeriesTmdb, numberOfEpisodes, episodeRuntime, name) VALUES (?, ?, ?, ?)";
+    // The no-op update turns a duplicate key into "already present" instead of an error.
+    private static final String UPSERT_TVSERIES_SQL = "INSERT INTO tvseries (idTvSeriesTmdb, numberOfEpisodes, episodeRuntime, name) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE idTvSeriesTmdb = idTvSeriesTmdb";
     private static final String UPDATE_TVSERIES_SQL = "UPDATE tvseries SET name=?, episodeRuntime=?, numberOfEpisodes=? WHERE idTvSeriesTmdb = ?";
     private static final String DELETE_TVSERIES_SQL = "DELETE FROM tvseries WHERE idTvSeriesTmdb = ?";
     private static final String SELECT_ALL_TVSERIES_SQL = "SELECT idTvSeriesTmdb, numberOfEpisodes, episodeRuntime, name FROM tvseries";
@@ -34,6 +36,18 @@ public class CrudTvSeries {
         }
     }
 
+    public static int upsertTvSeries(Connection conn, TvSeriesBean tvSeries) throws ExceptionDao {
+        try (PreparedStatement ps = conn.prepareStatement(UPSERT_TVSERIES_SQL)) {
+            ps.setInt(1, tvSeries.getIdTvSeriesTmdb());
+            ps.setInt(2, tvSeries.getNumberOfEpisodes());
+            ps.setInt(3, tvSeries.getEpisodeRuntime());
+            ps.setString(4, tvSeries.getName());
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new ExceptionDao("Failed to upsert TV Series with ID " + tvSeries.getIdTvSeriesTmdb() + ": " + e.getMessage(), e);
+        }
+    }
+
     public static int updateTvSeries(Connection conn, TvSeriesBean tvSeries) throws ExceptionDao {
         try (PreparedStatement ps = conn.prepareStatement(UPDATE_TVSERIES_SQL)) {
             ps.setString(1, tvSeries.getName());
@@ -1,13 +1,25 @@
 package ispw.project.project_ispw.exception;
 
 public class ExceptionTmdbApi extends RuntimeException {
+    private final int httpStatusCode;
 
     public ExceptionTmdbApi(String message) {
         super(message);
+        this.httpStatusCode = -1;
     }
 
     public ExceptionTmdbApi(String message, Throwable cause) {
         super(message, cause);
+        this.httpStatusCode = -1;
+    }
+
+    public ExceptionTmdbApi(String message, int httpStatusCode) {
+        super(message);
+        this.httpStatusCode = httpStatusCode;
+    }
+
+    public int getHttpStatusCode() {
+        return httpStatusCode;
     }
 }
 
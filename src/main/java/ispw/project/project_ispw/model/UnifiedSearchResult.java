@@ -0,0 +1,45 @@
+package ispw.project.project_ispw.model;
+
+import java.util.Collections;
+import java.util.List;
+
+public class UnifiedSearchResult {
+
+    private final List<Object> results;
+    private final List<String> unavailableCategories;
+
+    public UnifiedSearchResult(List<Object> results, List<String> unavailableCategories) {
+        this.results = Collections.unmodifiableList(results);
+        this.unavailableCategories = Collections.unmodifiableList(unavailableCategories);
+    }
+
+    /**
+     * Movies, TV series and anime merged into one list, best match first.
+     */
+    public List<Object> getResults() {
+        return results;
+    }
+
+    /**
+     * Categories whose search failed or missed the deadline and are therefore missing from the results.
+     */
+    public List<String> getUnavailableCategories() {
+        return unavailableCategories;
+    }
+
+    public boolean isPartial() {
+        return !unavailableCategories.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "UnifiedSearchResult{" +
+                "results=" + results.size() +
+                ", unavailableCategories=" + unavailableCategories +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package ispw.project.project_ispw.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityCache Test Suite")
+class TestEntityCache {
+
+    private EntityCache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntityCache<>(3);
+    }
+
+    @Test
+    @DisplayName("get - Should return cached value and count a hit")
+    void testGet_Hit() {
+        cache.put(1, "one");
+
+        assertEquals("one", cache.get(1), "Cached value should be returned");
+        assertEquals(1, cache.getHitCount(), "Hit count should be incremented");
+        assertEquals(0, cache.getMissCount(), "Miss count should stay at zero");
+    }
+
+    @Test
+    @DisplayName("get - Should return null for missing key and count a miss")
+    void testGet_Miss() {
+        assertNull(cache.get(42), "Missing key should return null");
+        assertEquals(1, cache.getMissCount(), "Miss count should be incremented");
+    }
+
+    @Test
+    @DisplayName("put - Should never exceed the maximum size")
+    void testPut_BoundedSize() {
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+
+        assertEquals(3, cache.size(), "Cache size should be capped at its maximum");
+        assertEquals(7, cache.getEvictionCount(), "Every overflowing insert should evict one entry");
+    }
+
+    @Test
+    @DisplayName("put - Should keep frequently read entries over entries that were never read")
+    void testPut_FrequencyAwareEviction() {
+        cache.put(1, "hot");
+        cache.put(2, "cold");
+        cache.put(3, "warm");
+        cache.get(1);
+        cache.get(1);
+        cache.get(3);
+
+        cache.put(4, "new");
+
+        assertTrue(cache.containsKey(1), "Frequently read entry should survive eviction");
+        assertFalse(cache.containsKey(2), "Entry that was never read should be evicted first");
+        assertTrue(cache.containsKey(4), "Newly inserted entry should be present");
+    }
+
+    @Test
+    @DisplayName("remove - Should drop the entry and return its value")
+    void testRemove_ExistingKey() {
+        cache.put(1, "one");
+
+        assertEquals("one", cache.remove(1), "Removed value should be returned");
+        assertFalse(cache.containsKey(1), "Removed key should no longer be cached");
+        assertNull(cache.remove(1), "Removing a missing key should return null");
+    }
+
+    @Test
+    @DisplayName("put - Should replace the value of an existing key without evicting")
+    void testPut_ReplaceExistingKey() {
+        cache.put(1, "one");
+        cache.put(1, "uno");
+
+        assertEquals("uno", cache.get(1), "Latest value should win");
+        assertEquals(1, cache.size(), "Replacing a value should not grow the cache");
+        assertEquals(0, cache.getEvictionCount(), "Replacing a value should not evict");
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject a non-positive maximum size")
+    void testConstructor_InvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache<>(0), "Zero maximum size should be rejected");
+    }
+}
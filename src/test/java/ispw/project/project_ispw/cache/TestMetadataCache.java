@@ -0,0 +1,103 @@
+package ispw.project.project_ispw.cache;
+
+import ispw.project.project_ispw.exception.ExceptionTmdbApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetadataCache Test Suite")
+class TestMetadataCache {
+
+    private static final long TTL_MS = 1000;
+    private static final long NEGATIVE_TTL_MS = 100;
+
+    private long now;
+    private AtomicInteger loads;
+    private MetadataCache<String, ExceptionTmdbApi> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        loads = new AtomicInteger();
+        cache = new MetadataCache<>("test", 3, TTL_MS, NEGATIVE_TTL_MS, ExceptionTmdbApi.class,
+                e -> e.getHttpStatusCode() == 404, () -> now);
+    }
+
+    private String load(int id) {
+        loads.incrementAndGet();
+        return "title" + id;
+    }
+
+    private String loadNotFound(int id) {
+        loads.incrementAndGet();
+        throw new ExceptionTmdbApi("Not found: " + id, 404);
+    }
+
+    private String loadServerError(int id) {
+        loads.incrementAndGet();
+        throw new ExceptionTmdbApi("Server error: " + id, 500);
+    }
+
+    @Test
+    @DisplayName("get - Should serve a repeated lookup from the cache")
+    void testGet_Hit() {
+        assertEquals("title1", cache.get(1, this::load), "First lookup should return the loaded value");
+        assertEquals("title1", cache.get(1, this::load), "Second lookup should return the cached value");
+
+        assertEquals(1, loads.get(), "Loader should be called only once");
+        assertEquals(1, cache.getHitCount(), "Hit count should be incremented");
+        assertEquals(1, cache.getMissCount(), "Miss count should be incremented once");
+        assertEquals(0.5, cache.getHitRate(), 1e-9, "Hit rate should be one out of two");
+    }
+
+    @Test
+    @DisplayName("get - Should load again once the entry has expired")
+    void testGet_Expired() {
+        cache.get(1, this::load);
+        now += TimeUnit.MILLISECONDS.toNanos(TTL_MS);
+
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get(), "Expired entry should be loaded again");
+        assertEquals(1, cache.getExpirationCount(), "Expiration count should be incremented");
+    }
+
+    @Test
+    @DisplayName("get - Should remember a not found answer until its shorter TTL expires")
+    void testGet_NegativeCaching() {
+        assertThrows(ExceptionTmdbApi.class, () -> cache.get(7, this::loadNotFound));
+        assertThrows(ExceptionTmdbApi.class, () -> cache.get(7, this::loadNotFound));
+
+        assertEquals(1, loads.get(), "Not found answer should be cached");
+        assertEquals(1, cache.getNegativeHitCount(), "Negative hit count should be incremented");
+
+        now += TimeUnit.MILLISECONDS.toNanos(NEGATIVE_TTL_MS);
+        assertEquals("title7", cache.get(7, this::load), "Expired negative entry should be loaded again");
+    }
+
+    @Test
+    @DisplayName("get - Should not cache failures other than not found")
+    void testGet_ServerErrorNotCached() {
+        assertThrows(ExceptionTmdbApi.class, () -> cache.get(7, this::loadServerError));
+        assertThrows(ExceptionTmdbApi.class, () -> cache.get(7, this::loadServerError));
+
+        assertEquals(2, loads.get(), "Every lookup should reach the loader");
+        assertEquals(0, cache.size(), "Nothing should be cached");
+    }
+
+    @Test
+    @DisplayName("get - Should never exceed the maximum size")
+    void testGet_BoundedSize() {
+        for (int i = 0; i < 10; i++) {
+            cache.get(i, this::load);
+        }
+
+        assertEquals(3, cache.size(), "Cache size should be capped at its maximum");
+        assertEquals(7, cache.getEvictionCount(), "Every overflowing insert should evict one entry");
+    }
+}
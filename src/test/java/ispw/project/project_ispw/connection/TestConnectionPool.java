@@ -0,0 +1,160 @@
+package ispw.project.project_ispw.connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConnectionPool Test Suite")
+class TestConnectionPool {
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+    private final List<AtomicBoolean> statementsClosed = new ArrayList<>();
+    private ConnectionPool pool;
+
+    private static final class FakeConnection {
+        private final AtomicInteger validations = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean alive = true;
+        private Connection proxy;
+    }
+
+    private Connection openFake() {
+        FakeConnection fake = new FakeConnection();
+        fake.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isValid" -> {
+                        fake.validations.incrementAndGet();
+                        yield fake.alive;
+                    }
+                    case "isClosed" -> fake.closed.get();
+                    case "close" -> {
+                        fake.closed.set(true);
+                        yield null;
+                    }
+                    case "getAutoCommit" -> true;
+                    case "prepareStatement" -> openStatement();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        opened.add(fake);
+        return fake.proxy;
+    }
+
+    private PreparedStatement openStatement() {
+        AtomicBoolean statementClosed = new AtomicBoolean();
+        statementsClosed.add(statementClosed);
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        statementClosed.set(true);
+                        yield null;
+                    }
+                    case "isClosed" -> statementClosed.get();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Validation interval 0: every idle connection is due for a check. Keepalive 0: no scheduler, passes run by hand.
+        pool = new ConnectionPool(this::openFake, 3, 1000, 1, 0, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private void fillIdle(int count) throws SQLException {
+        List<Connection> leased = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leased.add(pool.getConnection());
+        }
+        for (Connection connection : leased) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("keepalive - Should validate every idle connection once per pass")
+    void testKeepalive_ValidatesEveryIdleConnection() throws SQLException {
+        fillIdle(3);
+
+        pool.keepalive();
+
+        for (FakeConnection fake : opened) {
+            assertEquals(1, fake.validations.get(), "Each idle connection should be validated exactly once");
+        }
+        assertEquals(3, pool.getIdleCount(), "Healthy connections should stay idle");
+        assertEquals(0, pool.getDiscardedCount(), "No connection should be discarded");
+    }
+
+    @Test
+    @DisplayName("keepalive - Should discard dead idle connections and open replacements")
+    void testKeepalive_ReplacesDeadConnections() throws SQLException {
+        fillIdle(3);
+        FakeConnection dead = opened.get(1);
+        dead.alive = false;
+
+        pool.keepalive();
+
+        assertTrue(dead.closed.get(), "Dead connection should be closed");
+        assertEquals(1, pool.getDiscardedCount(), "Dead connection should be discarded");
+        assertEquals(4, pool.getCreatedCount(), "A replacement connection should be opened");
+        assertEquals(3, pool.getIdleCount(), "Pool should be back to its previous idle size");
+        assertEquals(0, opened.get(3).validations.get(), "The fresh replacement should not need validation");
+    }
+
+    @Test
+    @DisplayName("keepalive - Should not hand a replaced connection out again")
+    void testKeepalive_DeadConnectionNotLeased() throws SQLException {
+        fillIdle(2);
+        opened.get(0).alive = false;
+        opened.get(1).alive = false;
+
+        pool.keepalive();
+
+        for (int i = 0; i < 2; i++) {
+            Connection leased = pool.getConnection();
+            assertFalse(leased.isClosed(), "Leased connection should be open");
+        }
+        assertTrue(opened.get(0).closed.get() && opened.get(1).closed.get(), "Both dead connections should be closed");
+    }
+
+    @Test
+    @DisplayName("release - Should drop statements left open when the connection is returned")
+    void testRelease_DropsCheckedOutStatements() throws SQLException {
+        ConnectionPool cachingPool = new ConnectionPool(this::openFake, 1, 1000, 1, 0, 0, 4);
+        try {
+            Connection first = cachingPool.getConnection();
+            first.prepareStatement("SELECT 1");
+            first.close();
+
+            assertTrue(statementsClosed.get(0).get(), "A statement the caller never closed should be closed on return");
+
+            Connection second = cachingPool.getConnection();
+            second.prepareStatement("SELECT 1").close();
+            second.close();
+
+            assertEquals(2, statementsClosed.size(), "The dropped statement should not be handed out again");
+            assertEquals(2, cachingPool.getStatementCacheMisses(), "Both prepares should miss the cache");
+        } finally {
+            cachingPool.shutdown();
+        }
+    }
+}
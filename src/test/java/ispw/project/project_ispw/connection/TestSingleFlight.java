@@ -0,0 +1,206 @@
+package ispw.project.project_ispw.connection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Call;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Test Suite")
+class TestSingleFlight {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<IOException> singleFlight = new SingleFlight<>(IOException.class);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private String blockedCall(String result) throws IOException {
+        upstreamCalls.incrementAndGet();
+        try {
+            if (!release.await(5, TimeUnit.SECONDS)) {
+                throw new IOException("Test latch was never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+        if (result == null) {
+            throw new IOException("Upstream failed");
+        }
+        return result;
+    }
+
+    private List<Future<String>> startCallers(ExecutorService executor, String result) throws InterruptedException {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute("movie:1", () -> blockedCall(result))));
+        }
+        // Release the leader only once every other caller is waiting on it.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCallCount() + singleFlight.getSharedCount() < CALLERS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("execute - Should run one upstream call and share its result with every concurrent caller")
+    void testExecute_CoalescesConcurrentCallers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> futures = startCallers(executor, "Alien");
+
+            for (Future<String> future : futures) {
+                assertEquals("Alien", future.get(5, TimeUnit.SECONDS), "Every caller should get the shared result");
+            }
+            assertEquals(1, upstreamCalls.get(), "The upstream should be called once");
+            assertEquals(1, singleFlight.getCallCount(), "One caller should lead");
+            assertEquals(CALLERS - 1, singleFlight.getSharedCount(), "Every other caller should share the result");
+            assertEquals(0, singleFlight.inFlightCount(), "Nothing should stay in flight after completion");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - Should deliver the upstream failure to every waiting caller")
+    void testExecute_SharesFailure() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> futures = startCallers(executor, null);
+
+            for (Future<String> future : futures) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertTrue(exception.getCause() instanceof IOException, "Each caller should get the checked failure");
+                assertEquals("Upstream failed", exception.getCause().getMessage(), "Each caller should get the upstream failure");
+            }
+            assertEquals(1, upstreamCalls.get(), "The failing upstream should be called once");
+            assertEquals(0, singleFlight.inFlightCount(), "A failed call should not stay in flight");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - Should call the upstream again once the previous call has completed")
+    void testExecute_NotACache() throws IOException {
+        release.countDown();
+
+        singleFlight.execute("movie:1", () -> blockedCall("first"));
+        String second = singleFlight.execute("movie:1", () -> blockedCall("second"));
+
+        assertEquals("second", second, "A later call should not reuse the earlier result");
+        assertEquals(2, upstreamCalls.get(), "Sequential calls should each reach the upstream");
+    }
+
+    @Test
+    @DisplayName("executeAsync - Should coalesce with a blocking call in flight for the same key")
+    void testExecuteAsync_JoinsBlockingCall() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blocking = executor.submit(() -> singleFlight.execute("movie:1", () -> blockedCall("Alien")));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.inFlightCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            CompletableFuture<String> async = singleFlight.executeAsync("movie:1",
+                    () -> CompletableFuture.completedFuture("unexpected"));
+            release.countDown();
+
+            assertEquals("Alien", async.get(5, TimeUnit.SECONDS), "The async caller should get the blocking call's result");
+            assertEquals("Alien", blocking.get(5, TimeUnit.SECONDS), "The blocking caller should get its own result");
+            assertEquals(1, singleFlight.getCallCount(), "Only the blocking call should reach the upstream");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Call pendingCall(AtomicBoolean cancelled) {
+        return (Call) Proxy.newProxyInstance(Call.class.getClassLoader(), new Class<?>[]{Call.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "cancel" -> {
+                        cancelled.set(true);
+                        yield null;
+                    }
+                    case "isCanceled" -> cancelled.get();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    private CompletableFuture<String> pendingRequest(AtomicBoolean cancelled) {
+        return singleFlight.executeAsync("movie:1",
+                () -> OkHttpFutures.enqueue(pendingCall(cancelled), 45, response -> "unexpected", e -> e));
+    }
+
+    @Test
+    @DisplayName("executeAsync - Should cancel the HTTP call when its only caller cancels")
+    void testExecuteAsync_CancelSoleCaller() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<String> caller = pendingRequest(cancelled);
+
+        caller.cancel(true);
+
+        assertTrue(cancelled.get(), "The HTTP call should be cancelled");
+        assertEquals(0, singleFlight.inFlightCount(), "The abandoned key should be released");
+    }
+
+    @Test
+    @DisplayName("executeAsync - Should keep the HTTP call running until its last caller cancels")
+    void testExecuteAsync_CancelLastCaller() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<String> first = pendingRequest(cancelled);
+        CompletableFuture<String> second = pendingRequest(cancelled);
+
+        first.cancel(true);
+        assertFalse(cancelled.get(), "The call should keep running for the remaining caller");
+        assertFalse(second.isDone(), "The remaining caller should still be waiting");
+
+        second.cancel(true);
+        assertTrue(cancelled.get(), "The call should be cancelled once nobody waits for it");
+    }
+
+    @Test
+    @DisplayName("executeAsync - Should cancel the HTTP call when its only caller times out")
+    void testExecuteAsync_CallerTimeout() throws InterruptedException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<String> caller = pendingRequest(cancelled).orTimeout(20, TimeUnit.MILLISECONDS);
+
+        assertThrows(ExecutionException.class, () -> caller.get(5, TimeUnit.SECONDS), "The caller should time out");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!cancelled.get() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(cancelled.get(), "The HTTP call should be cancelled after the timeout");
+    }
+
+    @Test
+    @DisplayName("executeAsync - Should start a new call for a key whose previous call was abandoned")
+    void testExecuteAsync_AfterAbandon() throws Exception {
+        pendingRequest(new AtomicBoolean()).cancel(true);
+
+        CompletableFuture<String> next = singleFlight.executeAsync("movie:1", () -> CompletableFuture.completedFuture("Alien"));
+
+        assertEquals("Alien", next.get(5, TimeUnit.SECONDS), "A fresh call should serve the new caller");
+        assertEquals(2, singleFlight.getCallCount(), "The abandoned call should not be reused");
+    }
+}
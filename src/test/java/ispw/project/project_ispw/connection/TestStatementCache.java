@@ -0,0 +1,146 @@
+package ispw.project.project_ispw.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatementCache Test Suite")
+class TestStatementCache {
+
+    private static final String SELECT_USER = "SELECT * FROM user WHERE username = ?";
+    private static final String SELECT_LIST = "SELECT * FROM list WHERE idList = ?";
+
+    private final List<FakeStatement> prepared = new ArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Connection physical;
+
+    private static final class FakeStatement {
+        private final String sql;
+        private boolean closed;
+        private int parameterResets;
+        private PreparedStatement proxy;
+
+        private FakeStatement(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        physical = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "prepareStatement" -> openStatement((String) args[0]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    private PreparedStatement openStatement(String sql) {
+        FakeStatement fake = new FakeStatement(sql);
+        fake.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        fake.closed = true;
+                        yield null;
+                    }
+                    case "isClosed" -> fake.closed;
+                    case "clearParameters" -> {
+                        fake.parameterResets++;
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        prepared.add(fake);
+        return fake.proxy;
+    }
+
+    private StatementCache newCache(int maxSize) {
+        return new StatementCache(maxSize, hits, misses, evictions);
+    }
+
+    @Test
+    @DisplayName("prepare - Should reuse a statement once it has been closed")
+    void testPrepare_ReuseAfterClose() throws SQLException {
+        StatementCache cache = newCache(4);
+
+        cache.prepare(physical, physical, SELECT_USER).close();
+        cache.prepare(physical, physical, SELECT_USER).close();
+
+        assertEquals(1, prepared.size(), "The second prepare should be served from the cache");
+        assertEquals(1, hits.sum(), "Hit count should be incremented");
+        assertEquals(1, misses.sum(), "Miss count should be incremented once");
+        assertEquals(2, prepared.get(0).parameterResets, "Parameters should be cleared on every check-in");
+        assertFalse(prepared.get(0).closed, "The cached statement should stay open");
+    }
+
+    @Test
+    @DisplayName("prepare - Should hand out a separate uncached statement for SQL that is already checked out")
+    void testPrepare_SameSqlWhileCheckedOut() throws SQLException {
+        StatementCache cache = newCache(4);
+
+        PreparedStatement outer = cache.prepare(physical, physical, SELECT_USER);
+        PreparedStatement nested = cache.prepare(physical, physical, SELECT_USER);
+
+        assertEquals(2, prepared.size(), "The nested prepare should open a second statement");
+        assertSame(prepared.get(1).proxy, nested, "The nested statement should be returned as is");
+        assertEquals(2, misses.sum(), "Both prepares should count as misses");
+        assertEquals(1, cache.size(), "Only the first statement should be cached");
+
+        nested.close();
+        assertTrue(prepared.get(1).closed, "Closing the nested statement should really close it");
+        outer.close();
+        assertFalse(prepared.get(0).closed, "Closing the cached statement should keep it open");
+
+        cache.prepare(physical, physical, SELECT_USER).close();
+        assertEquals(2, prepared.size(), "The cached statement should be reused afterwards");
+    }
+
+    @Test
+    @DisplayName("prepare - Should close an evicted statement only once its caller closes it")
+    void testPrepare_EvictCheckedOut() throws SQLException {
+        StatementCache cache = newCache(1);
+
+        PreparedStatement checkedOut = cache.prepare(physical, physical, SELECT_USER);
+        cache.prepare(physical, physical, SELECT_LIST).close();
+
+        assertEquals(1, evictions.sum(), "The eldest statement should be evicted");
+        assertEquals(1, cache.size(), "The cache should not grow past its maximum size");
+        assertFalse(prepared.get(0).closed, "A checked-out statement should not be closed under its caller");
+
+        checkedOut.close();
+        assertTrue(prepared.get(0).closed, "The evicted statement should be closed when it is checked in");
+        assertFalse(prepared.get(1).closed, "The statement still in the cache should stay open");
+    }
+
+    @Test
+    @DisplayName("releaseCheckedOut - Should drop statements never closed before the connection was returned")
+    void testReleaseCheckedOut_DropsLeakedStatements() throws SQLException {
+        StatementCache cache = newCache(4);
+        cache.prepare(physical, physical, SELECT_USER);
+        cache.prepare(physical, physical, SELECT_LIST).close();
+
+        cache.releaseCheckedOut();
+
+        assertTrue(prepared.get(0).closed, "The leaked statement should be closed");
+        assertFalse(prepared.get(1).closed, "The checked-in statement should stay cached");
+        assertEquals(1, cache.size(), "Only the checked-in statement should remain");
+
+        cache.prepare(physical, physical, SELECT_USER).close();
+        assertEquals(3, prepared.size(), "The dropped SQL should be prepared again");
+    }
+}
@@ -0,0 +1,85 @@
+package ispw.project.project_ispw.controller.application.util;
+
+import ispw.project.project_ispw.model.AnimeModel;
+import ispw.project.project_ispw.model.MovieModel;
+import ispw.project.project_ispw.model.TvSeriesModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchRanking Test Suite")
+class TestSearchRanking {
+
+    private static MovieModel movie(int id, String title, double voteAverage, int voteCount) {
+        MovieModel movie = new MovieModel();
+        movie.setId(id);
+        movie.setTitle(title);
+        movie.setVoteAverage(voteAverage);
+        movie.setVoteCount(voteCount);
+        return movie;
+    }
+
+    private static TvSeriesModel tvSeries(int id, String name) {
+        TvSeriesModel tvSeries = new TvSeriesModel();
+        tvSeries.setId(id);
+        tvSeries.setName(name);
+        return tvSeries;
+    }
+
+    private static AnimeModel anime(int id, String romaji, Integer averageScore) {
+        AnimeModel.Title title = new AnimeModel.Title();
+        title.setRomaji(romaji);
+        AnimeModel anime = new AnimeModel();
+        anime.setId(id);
+        anime.setTitle(title);
+        anime.setAverageScore(averageScore);
+        return anime;
+    }
+
+    @Test
+    @DisplayName("merge - Should rank an exact title match above partial matches from other categories")
+    void testMerge_ExactMatchFirst() {
+        MovieModel partial = movie(1, "Monster House", 7.0, 100);
+        TvSeriesModel contains = tvSeries(2, "The Little Monster");
+        AnimeModel exact = anime(3, "Monster", 88);
+
+        List<Object> merged = SearchRanking.merge("monster", List.of(List.of(partial), List.of(contains), List.of(exact)));
+
+        assertEquals(List.of(exact, partial, contains), merged, "Exact match should come first, then prefix, then contains");
+    }
+
+    @Test
+    @DisplayName("merge - Should keep each category's own order when titles match equally")
+    void testMerge_PreservesUpstreamOrder() {
+        MovieModel first = movie(1, "Alien", 0, 0);
+        MovieModel second = movie(2, "Alien", 0, 0);
+
+        List<Object> merged = SearchRanking.merge("alien", List.of(List.of(first, second)));
+
+        assertEquals(List.of(first, second), merged, "Earlier upstream result should stay ahead");
+    }
+
+    @Test
+    @DisplayName("merge - Should use the rating to break ties across categories")
+    void testMerge_RatingBreaksTies() {
+        MovieModel lowRated = movie(1, "Dune", 3.0, 500);
+        AnimeModel highRated = anime(2, "Dune", 90);
+
+        List<Object> merged = SearchRanking.merge("Dune", List.of(List.of(lowRated), List.of(highRated)));
+
+        assertEquals(List.of(highRated, lowRated), merged, "Better rated item should win an otherwise equal match");
+    }
+
+    @Test
+    @DisplayName("merge - Should ignore the rating of a movie without votes")
+    void testMerge_NoVotesNoRating() {
+        MovieModel unvoted = movie(1, "Dune", 10.0, 0);
+        MovieModel voted = movie(2, "Dune", 6.0, 10);
+
+        assertTrue(SearchRanking.score(voted, "dune", 0) > SearchRanking.score(unvoted, "dune", 0),
+                "A rating backed by votes should score higher than one without");
+    }
+}
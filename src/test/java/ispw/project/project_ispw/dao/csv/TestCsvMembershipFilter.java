@@ -0,0 +1,58 @@
+package ispw.project.project_ispw.dao.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvMembershipFilter Test Suite")
+class TestCsvMembershipFilter {
+
+    @Test
+    @DisplayName("add/remove - Small filters should track items exactly")
+    void testAddRemove_Exact() {
+        CsvMembershipFilter filter = CsvMembershipFilter.of(List.of(1, 2, 3));
+
+        filter.remove(2);
+
+        assertTrue(filter.isExact(), "A small filter should stay exact");
+        assertTrue(filter.mightContain(1), "Added item should be reported");
+        assertFalse(filter.mightContain(2), "Removed item should not be reported");
+        assertFalse(filter.mightContain(4), "Unknown item should not be reported");
+    }
+
+    @Test
+    @DisplayName("add - Large filters should never report a false negative")
+    void testAdd_BloomNoFalseNegatives() {
+        List<Integer> items = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        CsvMembershipFilter filter = CsvMembershipFilter.of(items);
+
+        assertFalse(filter.isExact(), "A large filter should switch to a Bloom filter");
+        for (int item : items) {
+            assertTrue(filter.mightContain(item), "Every added item should be reported as possibly present");
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain - Large filters should reject most absent items")
+    void testMightContain_BloomFalsePositiveRate() {
+        CsvMembershipFilter filter = CsvMembershipFilter.of(IntStream.range(0, 5000).boxed().collect(Collectors.toList()));
+
+        long falsePositives = IntStream.range(100_000, 110_000).filter(filter::mightContain).count();
+
+        assertTrue(falsePositives < 500, "False positive rate should stay well under 5%, was " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("empty - Should report no items")
+    void testEmpty() {
+        CsvMembershipFilter filter = CsvMembershipFilter.empty();
+
+        assertTrue(filter.isEmpty(), "New filter should be empty");
+        assertFalse(filter.mightContain(0), "Empty filter should not report any item");
+    }
+}
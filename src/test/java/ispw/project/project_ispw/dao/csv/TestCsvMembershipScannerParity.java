@@ -0,0 +1,135 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvMembershipScanner parity Test Suite")
+class TestCsvMembershipScannerParity {
+
+    private static final int LISTS = 12;
+
+    private final CsvMembershipScanner openCsv = new OpenCsvMembershipScanner();
+    private final CsvMembershipScanner mapped = new MappedCsvMembershipScanner();
+
+    private static List<String> generatedRows() {
+        Random random = new Random(42);
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int listId = 1 + random.nextInt(LISTS);
+            int itemId = random.nextInt(300);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                rows.add(listId + "," + CsvTombstone.ALL_ITEMS + "," + CsvTombstone.MARKER);
+            } else if (kind < 5) {
+                rows.add(listId + "," + itemId + "," + CsvTombstone.MARKER);
+            } else {
+                rows.add(listId + "," + itemId);
+            }
+        }
+        return rows;
+    }
+
+    private static List<String> edgeRows() {
+        return List.of(
+                "007,1001",
+                " 7,1002",
+                "+7,1003",
+                "\"7\",1004",
+                "7,007",
+                "7, 8",
+                "7,+9",
+                "7,\"10\"",
+                "7,11\r",
+                "7,-0",
+                "7,abc",
+                "7,99999999999",
+                "7,12,extra",
+                "7,13",
+                "7,013," + CsvTombstone.MARKER,
+                "7,8," + CsvTombstone.MARKER,
+                "7,14",
+                "7,\"14\"," + CsvTombstone.MARKER,
+                "7,15",
+                "7,15,\"" + CsvTombstone.MARKER + "\",extra",
+                "8," + Integer.MIN_VALUE,
+                "8,-" + Integer.MIN_VALUE,
+                "8,",
+                "8",
+                "");
+    }
+
+    private static void assertParity(CsvMembershipScanner openCsv, CsvMembershipScanner mapped, Path file, int listId)
+            throws IOException, CsvValidationException {
+        assertEquals(new ArrayList<>(openCsv.liveItemIds(file, listId)), new ArrayList<>(mapped.liveItemIds(file, listId)),
+                "Both scanners should return the same items in the same order for list " + listId);
+    }
+
+    @Test
+    @DisplayName("liveItemIds - Should match the opencsv scanner on a generated file with edge rows")
+    void testLiveItemIds_MatchesOpenCsv() throws IOException, CsvValidationException {
+        List<String> rows = generatedRows();
+        rows.addAll(edgeRows());
+        Path file = Files.createTempFile("membership", ".csv");
+        try {
+            Files.write(file, rows, StandardCharsets.UTF_8);
+            for (int listId = 0; listId <= LISTS; listId++) {
+                assertParity(openCsv, mapped, file, listId);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("liveItemIds - Should read ids as strings, not as numbers")
+    void testLiveItemIds_NonCanonicalIds() throws IOException, CsvValidationException {
+        Path file = Files.createTempFile("membership", ".csv");
+        try {
+            Files.write(file, edgeRows(), StandardCharsets.UTF_8);
+
+            List<Integer> items = new ArrayList<>(mapped.liveItemIds(file, 7));
+
+            assertFalse(items.contains(1001), "A row keyed 007 should not belong to list 7");
+            assertFalse(items.contains(1002), "A row keyed ' 7' should not belong to list 7");
+            assertTrue(items.contains(7), "An item written as 007 should still be read as 7");
+            assertFalse(items.contains(8), "An item written as ' 8' is malformed and should be skipped");
+            assertTrue(items.contains(13), "A tombstone for '013' should not remove item 13");
+            assertFalse(items.contains(14), "A quoted tombstone should remove the item");
+            assertParity(openCsv, mapped, file, 7);
+            assertParity(openCsv, mapped, file, 8);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("liveItemIds - Should release the mapping so the file can be replaced right after a scan")
+    void testLiveItemIds_FileReplaceableAfterScan() throws IOException, CsvValidationException {
+        Path file = Files.createTempFile("membership", ".csv");
+        Path replacement = Files.createTempFile("membership", ".tmp");
+        try {
+            Files.write(file, List.of("1,1", "1,2"), StandardCharsets.UTF_8);
+            Files.write(replacement, List.of("1,3"), StandardCharsets.UTF_8);
+
+            assertEquals(2, mapped.liveItemIds(file, 1).size(), "Original file should have two items");
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+            assertEquals(List.of(3), new ArrayList<>(mapped.liveItemIds(file, 1)), "Scan should see the replaced file");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(replacement);
+        }
+    }
+}
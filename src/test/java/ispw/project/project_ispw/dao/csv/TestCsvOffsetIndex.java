@@ -0,0 +1,125 @@
+package ispw.project.project_ispw.dao.csv;
+
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvOffsetIndex Test Suite")
+class TestCsvOffsetIndex {
+
+    private static CsvOffsetIndex indexWithRecords(Path file, int count) throws IOException {
+        CsvOffsetIndex index = new CsvOffsetIndex(file.toString());
+        for (int id = 1; id <= count; id++) {
+            index.append(String.valueOf(id), new String[]{String.valueOf(id), "List " + id});
+        }
+        return index;
+    }
+
+    private static void deleteFiles(Path file) throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(Paths.get(file + ".idx"));
+    }
+
+    @Test
+    @DisplayName("maxIntKey - Should count a deleted highest id after the index is reloaded")
+    void testMaxIntKey_DeletedKeyAfterReload() throws IOException {
+        Path file = Files.createTempFile("lists", ".csv");
+        try {
+            CsvOffsetIndex index = indexWithRecords(file, 3);
+            index.appendTombstone("3");
+
+            assertEquals(3, index.maxIntKey(), "The deleted id should still be the floor");
+            assertEquals(3, new CsvOffsetIndex(file.toString()).maxIntKey(), "The reloaded index should keep the floor");
+        } finally {
+            deleteFiles(file);
+        }
+    }
+
+    @Test
+    @DisplayName("maxIntKey - Should count a deleted highest id after compaction and a rebuild")
+    void testMaxIntKey_DeletedKeyAfterCompaction() throws IOException, CsvValidationException {
+        Path file = Files.createTempFile("lists", ".csv");
+        try {
+            CsvOffsetIndex index = indexWithRecords(file, 3);
+            index.appendTombstone("2");
+            index.appendTombstone("3");
+
+            index.compact();
+
+            assertEquals(3, index.maxIntKey(), "Compaction should keep the highest deleted id");
+            assertNull(index.retrieve("3"), "The deleted record should stay deleted");
+            assertNotNull(index.retrieve("1"), "The live record should survive compaction");
+
+            Files.delete(Paths.get(file + ".idx"));
+            assertEquals(3, new CsvOffsetIndex(file.toString()).maxIntKey(), "A rebuilt index should keep the floor");
+        } finally {
+            deleteFiles(file);
+        }
+    }
+
+    @Test
+    @DisplayName("load - Should restore the live and tombstone counts of the data file")
+    void testLoad_RestoresRecordCounts() throws IOException, CsvValidationException {
+        Path file = Files.createTempFile("lists", ".csv");
+        try {
+            CsvOffsetIndex index = indexWithRecords(file, 3);
+            index.appendTombstone("2");
+            index.append("2", new String[]{"2", "List 2 again"});
+
+            CsvOffsetIndex reloaded = new CsvOffsetIndex(file.toString());
+
+            assertEquals(5, reloaded.recordCount(), "Every record of the data file should be counted once");
+            assertEquals(1, reloaded.tombstoneCount(), "The tombstone should be counted once");
+            assertEquals(List.of("2", "List 2 again"), List.of(reloaded.retrieve("2")), "The re-added record should be found");
+        } finally {
+            deleteFiles(file);
+        }
+    }
+
+    @Test
+    @DisplayName("load - Should resume from the sidecar when the last indexed key was deleted")
+    void testLoad_LastKeyDeletedNoRebuild() throws IOException {
+        Path file = Files.createTempFile("lists", ".csv");
+        Path indexFile = Paths.get(file + ".idx");
+        try {
+            CsvOffsetIndex index = indexWithRecords(file, 3);
+            index.appendTombstone("3");
+            List<String> sidecar = Files.readAllLines(indexFile);
+
+            CsvOffsetIndex reloaded = new CsvOffsetIndex(file.toString());
+
+            assertEquals(sidecar, Files.readAllLines(indexFile), "The sidecar should be reused, not rebuilt");
+            assertEquals(4, reloaded.recordCount(), "Live records and the tombstone should be counted");
+            assertFalse(reloaded.contains("3"), "The deleted key should stay deleted");
+        } finally {
+            deleteFiles(file);
+        }
+    }
+
+    @Test
+    @DisplayName("load - Should rebuild when the data file is shorter than the indexed length")
+    void testLoad_TruncatedDataFile() throws IOException {
+        Path file = Files.createTempFile("lists", ".csv");
+        try {
+            indexWithRecords(file, 3);
+            List<String> lines = Files.readAllLines(file);
+            Files.write(file, lines.subList(0, 2));
+
+            CsvOffsetIndex reloaded = new CsvOffsetIndex(file.toString());
+
+            assertEquals(2, reloaded.recordCount(), "Only the remaining records should be counted");
+            assertFalse(reloaded.contains("3"), "The truncated record should not be indexed");
+            assertTrue(reloaded.contains("2"), "The remaining records should be indexed");
+        } finally {
+            deleteFiles(file);
+        }
+    }
+}
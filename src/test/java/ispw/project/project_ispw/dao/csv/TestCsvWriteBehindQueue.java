@@ -0,0 +1,82 @@
+package ispw.project.project_ispw.dao.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvWriteBehindQueue Test Suite")
+class TestCsvWriteBehindQueue {
+
+    private static final class FlakyTarget implements CsvWriteBehindQueue.Target {
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void writeBatch(List<String[]> records) throws IOException {
+            attempts.incrementAndGet();
+            if (failing.get()) {
+                throw new IOException("Disk full");
+            }
+            for (String[] recordCsv : records) {
+                written.add(recordCsv[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("flush - Should write every queued record in order")
+    void testFlush_WritesRecords() throws IOException {
+        CsvWriteBehindQueue queue = new CsvWriteBehindQueue(true, 16, 4, 1);
+        FlakyTarget target = new FlakyTarget();
+
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(target, new String[]{String.valueOf(i)});
+        }
+        queue.flush();
+
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), target.written, "Records should be written in order");
+    }
+
+    @Test
+    @DisplayName("flush - Should report a failed write instead of dropping the records")
+    void testFlush_ReportsFailure() throws IOException {
+        CsvWriteBehindQueue queue = new CsvWriteBehindQueue(true, 16, 4, 1);
+        FlakyTarget target = new FlakyTarget();
+        target.failing.set(true);
+
+        queue.enqueue(target, new String[]{"1"});
+        queue.enqueue(target, new String[]{"2"});
+
+        IOException exception = assertThrows(IOException.class, queue::flush, "Flush should fail while writes fail");
+        assertEquals("Disk full", exception.getCause().getMessage(), "The write failure should be the cause");
+        assertTrue(target.written.isEmpty(), "Nothing should have been written yet");
+    }
+
+    @Test
+    @DisplayName("flush - Should retry a failed batch until it is written")
+    void testFlush_RetriesFailedBatch() throws IOException {
+        CsvWriteBehindQueue queue = new CsvWriteBehindQueue(true, 16, 4, 1);
+        FlakyTarget target = new FlakyTarget();
+        target.failing.set(true);
+
+        queue.enqueue(target, new String[]{"1"});
+        queue.enqueue(target, new String[]{"2"});
+        assertThrows(IOException.class, queue::flush, "Flush should fail while writes fail");
+
+        target.failing.set(false);
+        queue.enqueue(target, new String[]{"3"});
+        queue.flush();
+
+        assertEquals(List.of("1", "2", "3"), target.written, "Failed records should be retried ahead of later ones");
+        assertTrue(target.attempts.get() >= 2, "The failed batch should have been attempted again");
+    }
+}
@@ -0,0 +1,19 @@
+package ispw.project.project_ispw.dao.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ListDaoCsv Test Suite")
+class TestListDaoCsv {
+
+    private final ListDaoCsv dao = new ListDaoCsv();
+
+    @Test
+    @DisplayName("retrieveListsOfUsername - Should throw IllegalArgumentException if page size is not positive")
+    void testRetrieveListsOfUsername_InvalidPageSize() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> dao.retrieveListsOfUsername("pageuser", 0, 0));
+        assertEquals("Page size must be positive.", thrown.getMessage());
+    }
+}
@@ -0,0 +1,138 @@
+package ispw.project.project_ispw.dao.csv;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("List item DAOs (CSV) Test Suite")
+class TestListItemDaoCsv {
+
+    @TempDir
+    Path tempDir;
+
+    private final ListBean list = new ListBean(1, "Watchlist", "batchuser");
+
+    @FunctionalInterface
+    private interface AddItem {
+        void add(ListBean list, int itemId) throws ExceptionDao;
+    }
+
+    @FunctionalInterface
+    private interface AddItems {
+        void add(ListBean list, List<Integer> itemIds) throws ExceptionDao;
+    }
+
+    @FunctionalInterface
+    private interface ItemIds {
+        List<Integer> of(ListBean list) throws ExceptionDao;
+    }
+
+    private record ListItems(AddItem addItem, AddItems addItems, ItemIds itemIds) {
+    }
+
+    enum Category {
+        MOVIE {
+            @Override
+            ListItems open(Path dir) throws IOException {
+                ListMovieDaoCsv dao = new ListMovieDaoCsv(dir.resolve("list_movie.csv").toString(),
+                        catalog(dir, "movie.csv", id -> id + ",100,Movie " + id));
+                return new ListItems(
+                        (list, id) -> dao.addMovieToList(list, movie(id)),
+                        (list, ids) -> dao.addMoviesToList(list, ids.stream().map(Category::movie).toList()),
+                        list -> dao.getAllMoviesInList(list).stream().map(MovieBean::getIdMovieTmdb).toList());
+            }
+        },
+        TV_SERIES {
+            @Override
+            ListItems open(Path dir) throws IOException {
+                ListTvSeriesDaoCsv dao = new ListTvSeriesDaoCsv(dir.resolve("list_tvseries.csv").toString(),
+                        catalog(dir, "tvseries.csv", id -> id + ",45,10,Series " + id));
+                return new ListItems(
+                        (list, id) -> dao.addTvSeriesToList(list, tvSeries(id)),
+                        (list, ids) -> dao.addTvSeriesToList(list, ids.stream().map(Category::tvSeries).toList()),
+                        list -> dao.getAllTvSeriesInList(list).stream().map(TvSeriesBean::getIdTvSeriesTmdb).toList());
+            }
+        },
+        ANIME {
+            @Override
+            ListItems open(Path dir) throws IOException {
+                ListAnimeDaoCsv dao = new ListAnimeDaoCsv(dir.resolve("list_anime.csv").toString(),
+                        catalog(dir, "anime.csv", id -> id + ",12,24,Anime " + id));
+                return new ListItems(
+                        (list, id) -> dao.addAnimeToList(list, anime(id)),
+                        (list, ids) -> dao.addAnimesToList(list, ids.stream().map(Category::anime).toList()),
+                        list -> dao.getAllAnimeInList(list).stream().map(AnimeBean::getIdAnimeTmdb).toList());
+            }
+        };
+
+        abstract ListItems open(Path dir) throws IOException;
+
+        // The list DAOs only return items whose details are in the catalog file, so write items 1 to 3 there.
+        private static String catalog(Path dir, String fileName, IntFunction<String> rowOf) throws IOException {
+            Path catalog = dir.resolve(fileName);
+            Files.write(catalog, IntStream.rangeClosed(1, 3).mapToObj(rowOf).toList());
+            return catalog.toString();
+        }
+
+        private static MovieBean movie(int id) {
+            return new MovieBean(id, 100, "Movie " + id);
+        }
+
+        private static TvSeriesBean tvSeries(int id) {
+            return new TvSeriesBean(45, id, 10, "Series " + id);
+        }
+
+        private static AnimeBean anime(int id) {
+            return new AnimeBean(id, 24, 12, "Anime " + id);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should add every item of the batch in order")
+    void testBatchAdd_Success(Category category) throws ExceptionDao, IOException {
+        ListItems items = category.open(tempDir);
+
+        items.addItems().add(list, List.of(1, 2, 3));
+
+        assertEquals(List.of(1, 2, 3), items.itemIds().of(list), "All items should be added in batch order");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should reject the whole batch when it contains the same item twice")
+    void testBatchAdd_DuplicateInBatch(Category category) throws ExceptionDao, IOException {
+        ListItems items = category.open(tempDir);
+
+        assertThrows(ExceptionDao.class, () -> items.addItems().add(list, List.of(1, 2, 1)));
+
+        assertTrue(items.itemIds().of(list).isEmpty(), "Nothing from the rejected batch should be added");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should reject the whole batch when an item is already in the list")
+    void testBatchAdd_AlreadyInList(Category category) throws ExceptionDao, IOException {
+        ListItems items = category.open(tempDir);
+        items.addItem().add(list, 2);
+
+        assertThrows(ExceptionDao.class, () -> items.addItems().add(list, List.of(1, 2, 3)));
+
+        assertEquals(List.of(2), items.itemIds().of(list), "Only the item added before the batch should remain");
+    }
+}
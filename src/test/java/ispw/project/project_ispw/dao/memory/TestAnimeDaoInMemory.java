@@ -0,0 +1,49 @@
+package ispw.project.project_ispw.dao.memory;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AnimeDaoInMemory Test Suite")
+class TestAnimeDaoInMemory {
+
+    private AnimeDaoInMemory animeDao;
+
+    @BeforeEach
+    void setUp() {
+        animeDao = new AnimeDaoInMemory();
+    }
+
+    @Test
+    @DisplayName("upsertAnime - Should save an anime that is not stored yet")
+    void testUpsertAnime_New() throws ExceptionDao {
+        AnimeBean anime = new AnimeBean(501, 24, 12, "First Arc");
+
+        animeDao.upsertAnime(anime);
+
+        assertEquals(anime, animeDao.retrieveById(501), "Upserted anime should be retrievable");
+    }
+
+    @Test
+    @DisplayName("upsertAnime - Should keep the stored anime and not throw when the ID already exists")
+    void testUpsertAnime_Existing() throws ExceptionDao {
+        AnimeBean original = new AnimeBean(502, 24, 12, "Original Title");
+        animeDao.saveAnime(original);
+
+        assertDoesNotThrow(() -> animeDao.upsertAnime(new AnimeBean(502, 30, 26, "Other Title")));
+
+        assertEquals(original, animeDao.retrieveById(502), "The first stored anime should be kept");
+        assertEquals(1, animeDao.retrieveAllAnime().size(), "No second entry should be stored");
+    }
+
+    @Test
+    @DisplayName("upsertAnime - Should throw IllegalArgumentException for null anime")
+    void testUpsertAnime_NullAnime() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> animeDao.upsertAnime(null));
+        assertEquals("Anime cannot be null.", thrown.getMessage());
+    }
+}
@@ -202,4 +202,46 @@ class TestListDaoInMemory {
 
         assertThrows(UnsupportedOperationException.class, () -> lists.add(newListBean));
     }
+
+    @Test
+    @DisplayName("retrieveListsOfUsername: Should page through a user's lists in id order")
+    void testRetrieveListsOfUsername_PagesInIdOrder() throws ExceptionDao {
+        UserBean user = new UserBean("pageuser", "pass");
+        UserBean other = new UserBean("otheruser", "pass");
+        listDaoInMemory.saveList(new ListBean(30, "List 30", "pageuser"), user);
+        listDaoInMemory.saveList(new ListBean(10, "List 10", "pageuser"), user);
+        listDaoInMemory.saveList(new ListBean(15, "Other", "otheruser"), other);
+        listDaoInMemory.saveList(new ListBean(20, "List 20", "pageuser"), user);
+
+        List<ListBean> firstPage = listDaoInMemory.retrieveListsOfUsername("pageuser", 0, 2);
+        assertEquals(List.of(10, 20), firstPage.stream().map(ListBean::getId).toList());
+
+        List<ListBean> secondPage = listDaoInMemory.retrieveListsOfUsername("pageuser", 20, 2);
+        assertEquals(List.of(30), secondPage.stream().map(ListBean::getId).toList());
+
+        assertTrue(listDaoInMemory.retrieveListsOfUsername("pageuser", 30, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("retrieveListsOfUsername: Should throw IllegalArgumentException if page size is not positive")
+    void testRetrieveListsOfUsername_InvalidPageSize() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> listDaoInMemory.retrieveListsOfUsername("pageuser", 0, 0));
+        assertEquals("Page size must be positive.", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("saveList: Should assign the next free ID to a list saved with ID 0")
+    void testSaveList_GeneratesId() throws ExceptionDao {
+        UserBean user = new UserBean("genuser", "pass");
+        listDaoInMemory.saveList(new ListBean(7, "Explicit", "genuser"), user);
+
+        ListBean first = new ListBean(0, "Generated 1", "genuser");
+        ListBean second = new ListBean(0, "Generated 2", "genuser");
+        listDaoInMemory.saveList(first, user);
+        listDaoInMemory.saveList(second, user);
+
+        assertEquals(8, first.getId());
+        assertEquals(9, second.getId());
+        assertEquals("Generated 2", listDaoInMemory.retrieveById(9).getName());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package ispw.project.project_ispw.dao.memory;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("List item DAOs (in memory) Test Suite")
+class TestListItemDaoInMemory {
+
+    private final ListBean list = new ListBean(1, "Watchlist", "batchuser");
+
+    @FunctionalInterface
+    private interface AddItem {
+        void add(ListBean list, int itemId) throws ExceptionDao;
+    }
+
+    @FunctionalInterface
+    private interface AddItems {
+        void add(ListBean list, List<Integer> itemIds) throws ExceptionDao;
+    }
+
+    @FunctionalInterface
+    private interface ItemIds {
+        List<Integer> of(ListBean list) throws ExceptionDao;
+    }
+
+    private record ListItems(AddItem addItem, AddItems addItems, ItemIds itemIds) {
+    }
+
+    enum Category {
+        MOVIE {
+            @Override
+            ListItems open() {
+                ListMovieDaoInMemory dao = new ListMovieDaoInMemory();
+                return new ListItems(
+                        (list, id) -> dao.addMovieToList(list, movie(id)),
+                        (list, ids) -> dao.addMoviesToList(list, ids.stream().map(Category::movie).toList()),
+                        list -> dao.getAllMoviesInList(list).stream().map(MovieBean::getIdMovieTmdb).toList());
+            }
+        },
+        TV_SERIES {
+            @Override
+            ListItems open() {
+                ListTvSeriesDaoInMemory dao = new ListTvSeriesDaoInMemory();
+                return new ListItems(
+                        (list, id) -> dao.addTvSeriesToList(list, tvSeries(id)),
+                        (list, ids) -> dao.addTvSeriesToList(list, ids.stream().map(Category::tvSeries).toList()),
+                        list -> dao.getAllTvSeriesInList(list).stream().map(TvSeriesBean::getIdTvSeriesTmdb).toList());
+            }
+        },
+        ANIME {
+            @Override
+            ListItems open() {
+                ListAnimeDaoInMemory dao = new ListAnimeDaoInMemory();
+                return new ListItems(
+                        (list, id) -> dao.addAnimeToList(list, anime(id)),
+                        (list, ids) -> dao.addAnimesToList(list, ids.stream().map(Category::anime).toList()),
+                        list -> dao.getAllAnimeInList(list).stream().map(AnimeBean::getIdAnimeTmdb).toList());
+            }
+        };
+
+        abstract ListItems open();
+
+        private static MovieBean movie(int id) {
+            return new MovieBean(id, 100, "Movie " + id);
+        }
+
+        private static TvSeriesBean tvSeries(int id) {
+            return new TvSeriesBean(45, id, 10, "Series " + id);
+        }
+
+        private static AnimeBean anime(int id) {
+            return new AnimeBean(id, 24, 12, "Anime " + id);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should add every item of the batch in order")
+    void testBatchAdd_Success(Category category) throws ExceptionDao {
+        ListItems items = category.open();
+
+        items.addItems().add(list, List.of(1, 2, 3));
+
+        assertEquals(List.of(1, 2, 3), items.itemIds().of(list), "All items should be added in batch order");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should reject the whole batch when it contains the same item twice")
+    void testBatchAdd_DuplicateInBatch(Category category) throws ExceptionDao {
+        ListItems items = category.open();
+
+        assertThrows(ExceptionDao.class, () -> items.addItems().add(list, List.of(1, 2, 1)));
+
+        assertTrue(items.itemIds().of(list).isEmpty(), "Nothing from the rejected batch should be added");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Category.class)
+    @DisplayName("batch add - Should reject the whole batch when an item is already in the list")
+    void testBatchAdd_AlreadyInList(Category category) throws ExceptionDao {
+        ListItems items = category.open();
+        items.addItem().add(list, 2);
+
+        assertThrows(ExceptionDao.class, () -> items.addItems().add(list, List.of(1, 2, 3)));
+
+        assertEquals(List.of(2), items.itemIds().of(list), "Only the item added before the batch should remain");
+    }
+}
@@ -0,0 +1,73 @@
+package ispw.project.project_ispw.dao.memory;
+
+import ispw.project.project_ispw.bean.AnimeBean;
+import ispw.project.project_ispw.bean.ListBean;
+import ispw.project.project_ispw.bean.ListStats;
+import ispw.project.project_ispw.bean.MovieBean;
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ListStatsDaoInMemory Test Suite")
+class TestListStatsDaoInMemory {
+
+    private ListMovieDaoInMemory listMovieDao;
+    private ListTvSeriesDaoInMemory listTvSeriesDao;
+    private ListAnimeDaoInMemory listAnimeDao;
+    private ListStatsDaoInMemory listStatsDao;
+
+    private final ListBean list = new ListBean(1, "Weekend", "statsuser");
+
+    @BeforeEach
+    void setUp() {
+        listMovieDao = new ListMovieDaoInMemory();
+        listTvSeriesDao = new ListTvSeriesDaoInMemory();
+        listAnimeDao = new ListAnimeDaoInMemory();
+        listStatsDao = new ListStatsDaoInMemory(listMovieDao, listTvSeriesDao, listAnimeDao);
+    }
+
+    @Test
+    @DisplayName("getListStats - Should count items and sum runtimes per kind")
+    void testGetListStats_MixedList() throws ExceptionDao {
+        listMovieDao.addMovieToList(list, new MovieBean(1, 120, "Movie A"));
+        listMovieDao.addMovieToList(list, new MovieBean(2, 95, "Movie B"));
+        listTvSeriesDao.addTvSeriesToList(list, new TvSeriesBean(45, 10, 8, "Series"));
+        listAnimeDao.addAnimeToList(list, new AnimeBean(20, 24, 12, "Anime"));
+
+        ListStats stats = listStatsDao.getListStats(list);
+
+        assertEquals(2, stats.getMovieCount());
+        assertEquals(215, stats.getMovieMinutes());
+        assertEquals(1, stats.getTvSeriesCount());
+        assertEquals(360, stats.getTvSeriesMinutes());
+        assertEquals(1, stats.getAnimeCount());
+        assertEquals(288, stats.getAnimeMinutes());
+        assertEquals(4, stats.getItemCount());
+        assertEquals(863, stats.getTotalMinutes());
+    }
+
+    @Test
+    @DisplayName("getListStats - Should return zero totals for an empty list")
+    void testGetListStats_EmptyList() throws ExceptionDao {
+        ListStats stats = listStatsDao.getListStats(list);
+
+        assertEquals(0, stats.getItemCount());
+        assertEquals(0, stats.getTotalMinutes());
+    }
+
+    @Test
+    @DisplayName("getListStats - Should not overflow when runtimes exceed the int range")
+    void testGetListStats_LargeTotals() throws ExceptionDao {
+        listTvSeriesDao.addTvSeriesToList(list, new TvSeriesBean(100_000, 10, 100_000, "Endless A"));
+        listTvSeriesDao.addTvSeriesToList(list, new TvSeriesBean(100_000, 11, 100_000, "Endless B"));
+
+        ListStats stats = listStatsDao.getListStats(list);
+
+        assertEquals(20_000_000_000L, stats.getTvSeriesMinutes());
+        assertEquals(20_000_000_000L, stats.getTotalMinutes());
+    }
+}
@@ -124,4 +124,33 @@ class TestMovieDaoInMemory {
         assertThrows(UnsupportedOperationException.class, () -> allMovies.remove(0),
                 "Attempting to remove from the returned list should throw UnsupportedOperationException");
     }
+
+    @Test
+    @DisplayName("upsertMovie - Should save a movie that is not stored yet")
+    void testUpsertMovie_New() throws ExceptionDao {
+        MovieBean movie = new MovieBean(301, 95, "First Contact");
+
+        movieDao.upsertMovie(movie);
+
+        assertEquals(movie, movieDao.retrieveById(301), "Upserted movie should be retrievable");
+    }
+
+    @Test
+    @DisplayName("upsertMovie - Should keep the stored movie and not throw when the ID already exists")
+    void testUpsertMovie_Existing() throws ExceptionDao {
+        MovieBean original = new MovieBean(302, 95, "Original Title");
+        movieDao.saveMovie(original);
+
+        assertDoesNotThrow(() -> movieDao.upsertMovie(new MovieBean(302, 120, "Other Title")));
+
+        assertEquals(original, movieDao.retrieveById(302), "The first stored movie should be kept");
+        assertEquals(1, movieDao.retrieveAllMovies().size(), "No second entry should be stored");
+    }
+
+    @Test
+    @DisplayName("upsertMovie - Should throw IllegalArgumentException for null movie")
+    void testUpsertMovie_NullMovie() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> movieDao.upsertMovie(null));
+        assertEquals("Movie cannot be null.", thrown.getMessage());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package ispw.project.project_ispw.dao.memory;
+
+import ispw.project.project_ispw.bean.TvSeriesBean;
+import ispw.project.project_ispw.exception.ExceptionDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TvSeriesDaoInMemory Test Suite")
+class TestTvSeriesDaoInMemory {
+
+    private TvSeriesDaoInMemory tvSeriesDao;
+
+    @BeforeEach
+    void setUp() {
+        tvSeriesDao = new TvSeriesDaoInMemory();
+    }
+
+    @Test
+    @DisplayName("upsertTvSeries - Should save a TV series that is not stored yet")
+    void testUpsertTvSeries_New() throws ExceptionDao {
+        TvSeriesBean tvSeries = new TvSeriesBean(45, 401, 10, "First Season");
+
+        tvSeriesDao.upsertTvSeries(tvSeries);
+
+        assertEquals(tvSeries, tvSeriesDao.retrieveById(401), "Upserted TV series should be retrievable");
+    }
+
+    @Test
+    @DisplayName("upsertTvSeries - Should keep the stored TV series and not throw when the ID already exists")
+    void testUpsertTvSeries_Existing() throws ExceptionDao {
+        TvSeriesBean original = new TvSeriesBean(45, 402, 10, "Original Name");
+        tvSeriesDao.saveTvSeries(original);
+
+        assertDoesNotThrow(() -> tvSeriesDao.upsertTvSeries(new TvSeriesBean(30, 402, 20, "Other Name")));
+
+        assertEquals(original, tvSeriesDao.retrieveById(402), "The first stored TV series should be kept");
+        assertEquals(1, tvSeriesDao.retrieveAllTvSeries().size(), "No second entry should be stored");
+    }
+
+    @Test
+    @DisplayName("saveTvSeries - Should throw ExceptionDao when the ID was already upserted")
+    void testSaveTvSeries_AfterUpsert() throws ExceptionDao {
+        tvSeriesDao.upsertTvSeries(new TvSeriesBean(45, 403, 10, "Upserted"));
+
+        assertThrows(ExceptionDao.class, () -> tvSeriesDao.saveTvSeries(new TvSeriesBean(45, 403, 10, "Saved")));
+    }
+
+    @Test
+    @DisplayName("upsertTvSeries - Should throw IllegalArgumentException for null TV series")
+    void testUpsertTvSeries_NullTvSeries() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> tvSeriesDao.upsertTvSeries(null));
+        assertEquals("TV Series cannot be null.", thrown.getMessage());
+    }
+}